@@ -0,0 +1,79 @@
+package builder.stage.placementHandler;
+
+import builder.bank.BankItem;
+import builder.stage.BuilderObjectView;
+import builder.stage.TilePaneDimensions;
+import engine.gameobject.GameObject;
+import engine.gameobject.platform.StationaryPlatform;
+import engine.leveldirectory.level.SyntheticLevels;
+import engine.view.FXToolkit;
+import engine.view.GameObjectView;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * This class benchmarks validating the placement of the objects a user has purchased during the builder stage, which the
+ * BuilderPane does on every frame. The level's own objects cannot be moved, but every purchased object is checked
+ * against them.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PlacementBenchmark {
+
+    private static final int COST = 1;
+
+    @Param({"10", "100", "1000", "10000", "100000"})
+    public int objectCount;
+
+    @Param({"10", "100"})
+    public int purchasedCount;
+
+    private BuilderPlacementHandler placementHandler;
+
+    @Setup
+    public void setUp() {
+        FXToolkit.start();
+        List<GameObject> gameObjects = SyntheticLevels.createGameObjects(objectCount);
+        TilePaneDimensions dimensions = new TilePaneDimensions(0, SyntheticLevels.getFloorWidth(objectCount),
+                0, (int) SyntheticLevels.getMaxDepth(objectCount));
+        List<GameObjectView> immovableObjects = new ArrayList<>();
+        for (GameObject gameObject : gameObjects) {
+            GameObjectView gameObjectView = new GameObjectView(gameObject.getImgPath(), gameObject.getX(),
+                    gameObject.getY(), gameObject.getWidth(), gameObject.getHeight(), gameObject.getXDirection());
+            gameObjectView.convertAttributesToGridBased(dimensions.getTileWidth(), dimensions.getTileHeight());
+            immovableObjects.add(gameObjectView);
+        }
+        List<BuilderObjectView> purchasedObjects = new ArrayList<>();
+        for (int index = 0; index < purchasedCount; index++) {
+            GameObject gameObject = new StationaryPlatform(SyntheticLevels.PLATFORM_IMG, 1d, 1d, 0d, 0d);
+            BuilderObjectView builderObjectView = new BuilderObjectView(gameObject, new BankItem(gameObject, COST),
+                    index, SyntheticLevels.FLOOR_SPACING - 1);
+            builderObjectView.convertAttributesToGridBased(dimensions.getTileWidth(), dimensions.getTileHeight());
+            purchasedObjects.add(builderObjectView);
+        }
+        placementHandler = new BuilderPlacementHandler(dimensions, immovableObjects);
+        placementHandler.setObjectsToCheck(purchasedObjects);
+    }
+
+    @Benchmark
+    public void handlePlacement() {
+        placementHandler.handlePlacement();
+    }
+}
@@ -0,0 +1,84 @@
+package data.levels;
+
+import engine.gameobject.GameObject;
+import engine.leveldirectory.level.SyntheticLevels;
+import org.json.simple.JSONObject;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * This class benchmarks reading a saved level's GameObjects with LevelData, which builds each of them through
+ * reflection. The level is written to a temporary file in the same format as the game's own levels.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LevelLoadingBenchmark {
+
+    private static final int LEVEL = 0;
+
+    @Param({"10", "100", "1000", "10000", "100000"})
+    public int objectCount;
+
+    private File levelFile;
+    private File emptyFile;
+    private LevelData levelData;
+
+    @Setup
+    public void setUp() throws IOException {
+        JSONObject levels = new JSONObject();
+        levels.put(Integer.toString(LEVEL), SyntheticLevels.toLevelJson(SyntheticLevels.createGameObjects(objectCount)));
+        levelFile = write("levels", levels);
+        emptyFile = write("empty", new JSONObject());
+        levelData = new LevelData(levelFile.getPath(), emptyFile.getPath(), emptyFile.getPath());
+    }
+
+    @TearDown
+    public void tearDown() {
+        levelFile.delete();
+        emptyFile.delete();
+    }
+
+    /**
+     * Builds every GameObject of a level that has already been parsed.
+     */
+    @Benchmark
+    public List<GameObject> getSavedLevel() {
+        return levelData.getSavedLevel(LEVEL);
+    }
+
+    /**
+     * Parses the level files and then builds every GameObject of a level.
+     */
+    @Benchmark
+    public List<GameObject> readAndGetSavedLevel() {
+        return new LevelData(levelFile.getPath(), emptyFile.getPath(), emptyFile.getPath()).getSavedLevel(LEVEL);
+    }
+
+    private File write(String prefix, JSONObject jsonObject) throws IOException {
+        File file = File.createTempFile(prefix, ".json");
+        try (FileWriter writer = new FileWriter(file)) {
+            jsonObject.writeJSONString(writer);
+        }
+        return file;
+    }
+}
@@ -0,0 +1,64 @@
+package engine.leveldirectory.gamesequence;
+
+import engine.leveldirectory.level.SyntheticLevels;
+import javafx.scene.input.KeyCode;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * This class benchmarks a single simulation tick of game play, which is what the GameSeqLevelController runs on every
+ * frame before rendering.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LevelSimulationBenchmark {
+
+    private static final int STEPS_PER_TURN = 20;
+
+    @Param({"10", "100", "1000", "10000", "100000"})
+    public int objectCount;
+
+    private LevelSimulation simulation;
+    private int steps;
+
+    @Setup
+    public void setUp() {
+        simulation = new LevelSimulation(SyntheticLevels.createLevel(objectCount), SyntheticLevels.createPlayer(),
+                SyntheticLevels.getMaxDepth(objectCount), Integer.MAX_VALUE);
+    }
+
+    /**
+     * A tick where the player stands still.
+     */
+    @Benchmark
+    public double step() {
+        simulation.step();
+        return simulation.getPlayer().getY();
+    }
+
+    /**
+     * A tick where the player walks back and forth along the top floor.
+     */
+    @Benchmark
+    public double walk() {
+        steps++;
+        simulation.handleInput((steps / STEPS_PER_TURN) % 2 == 0 ? KeyCode.D : KeyCode.A);
+        simulation.step();
+        return simulation.getPlayer().getX();
+    }
+}
@@ -0,0 +1,115 @@
+package engine.leveldirectory.level;
+
+import engine.gameobject.GameObject;
+import engine.gameobject.opponent.Enemy;
+import engine.gameobject.platform.StationaryPlatform;
+import engine.gameobject.player.SimplePlayer;
+import org.json.simple.JSONArray;
+import org.json.simple.JSONObject;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * This class generates levels of any size for benchmarking. A level is a stack of floors made of platforms, with an
+ * enemy taking the place of every twentieth platform. The enemies leave gaps in their floors, so they fall through the
+ * level over time and respawn at the top, as they would in an actual game.
+ *
+ * The floors are roughly four times as wide as the stack is tall, so that the level's objects are spread out in the
+ * same way that a hand-designed level's would be.
+ */
+public class SyntheticLevels {
+
+    public static final int FLOOR_SPACING = 4;
+    public static final int ENEMY_SPACING = 20;
+    public static final String PLATFORM_IMG = "images/objects/grasstile.png";
+    public static final String ENEMY_IMG = "images/avatars/mongoose.png";
+    public static final String PLAYER_IMG = "images/avatars/basicsnake.png";
+
+    private SyntheticLevels() {
+    }
+
+    /**
+     * Creates the GameObjects for a level.
+     * @param objectCount the number of GameObjects in the level
+     * @return the GameObjects
+     */
+    public static List<GameObject> createGameObjects(int objectCount) {
+        int floorWidth = getFloorWidth(objectCount);
+        List<GameObject> gameObjects = new ArrayList<>(objectCount);
+        for (int index = 0; index < objectCount; index++) {
+            double x = index % floorWidth;
+            double y = FLOOR_SPACING * (index / floorWidth + 1);
+            if (index % ENEMY_SPACING == ENEMY_SPACING - 1) {
+                gameObjects.add(new Enemy(ENEMY_IMG, 1d, 1d, x, y - 1, Enemy.DEFAULT_X_SPEED, 0d));
+            }
+            else {
+                StationaryPlatform platform = new StationaryPlatform(PLATFORM_IMG, 1d, 1d, 0d, 0d);
+                platform.setX(x);
+                platform.setY(y);
+                gameObjects.add(platform);
+            }
+        }
+        return gameObjects;
+    }
+
+    /**
+     * Creates a level without a bank or dimensions, which is all that is needed to play it.
+     * @param objectCount the number of GameObjects in the level
+     * @return the level
+     */
+    public static Level createLevel(int objectCount) {
+        return new Level(createGameObjects(objectCount), null, null);
+    }
+
+    /**
+     * Creates a player standing on the top floor of a level.
+     * @return the player
+     */
+    public static SimplePlayer createPlayer() {
+        return new SimplePlayer(PLAYER_IMG, 1d, 1d, 0d, FLOOR_SPACING - 1d, 0d, 0d);
+    }
+
+    /**
+     * Gets the number of tiles in each floor of a level.
+     * @param objectCount the number of GameObjects in the level
+     * @return the width of the level, in tiles
+     */
+    public static int getFloorWidth(int objectCount) {
+        return Math.max((int) Math.ceil(Math.sqrt(objectCount * FLOOR_SPACING)), 1);
+    }
+
+    /**
+     * Gets the y position below the bottom floor of a level.
+     * @param objectCount the number of GameObjects in the level
+     * @return the y position below which objects have fallen out of the level
+     */
+    public static double getMaxDepth(int objectCount) {
+        int floors = (objectCount + getFloorWidth(objectCount) - 1) / getFloorWidth(objectCount);
+        return FLOOR_SPACING * (floors + 1);
+    }
+
+    /**
+     * Converts the GameObjects for a level into the format they are saved in by LevelData.
+     * @param gameObjects the GameObjects
+     * @return the saved level
+     */
+    public static JSONObject toLevelJson(List<GameObject> gameObjects) {
+        JSONObject level = new JSONObject();
+        for (GameObject gameObject : gameObjects) {
+            String objClass = gameObject.getClass().getName();
+            if (!level.containsKey(objClass)) {
+                level.put(objClass, new JSONArray());
+            }
+            JSONArray instanceList = new JSONArray();
+            for (Object param : gameObject.getParameters()) {
+                JSONArray paramList = new JSONArray();
+                paramList.addAll(Arrays.asList(param.getClass().getName(), param.toString()));
+                instanceList.add(paramList);
+            }
+            ((JSONArray) level.get(objClass)).add(instanceList);
+        }
+        return level;
+    }
+}
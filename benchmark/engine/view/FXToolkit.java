@@ -0,0 +1,31 @@
+package engine.view;
+
+import javafx.application.Platform;
+
+/**
+ * This class starts the JavaFX toolkit for benchmarks that create views, since images and the screen's dimensions are
+ * only available once it is running. No stage is ever shown.
+ */
+public class FXToolkit {
+
+    private static boolean isStarted;
+
+    private FXToolkit() {
+    }
+
+    /**
+     * Starts the JavaFX toolkit if it is not already running.
+     */
+    public static synchronized void start() {
+        if (isStarted) {
+            return;
+        }
+        try {
+            Platform.startup(() -> {});
+        } catch (IllegalStateException e) {
+            // the toolkit was already started elsewhere
+        }
+        Platform.setImplicitExit(false);
+        isStarted = true;
+    }
+}
@@ -0,0 +1,88 @@
+package engine.view;
+
+import engine.gameobject.GameObject;
+import engine.leveldirectory.level.SyntheticLevels;
+import javafx.scene.layout.Pane;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * This class benchmarks presenting a level's GameObjects the way GameSeqController.display() does, both by building a
+ * GameObjectView for every object and by updating the positions and orientations of views that already exist.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ViewBuildingBenchmark {
+
+    private static final double TILE_WIDTH = 20;
+    private static final double TILE_HEIGHT = 20;
+
+    @Param({"10", "100", "1000", "10000", "100000"})
+    public int objectCount;
+
+    private List<GameObject> gameObjects;
+    private List<GameObjectView> gameObjectViews;
+    private Pane gamePlayPane;
+
+    @Setup
+    public void setUp() {
+        FXToolkit.start();
+        gameObjects = SyntheticLevels.createGameObjects(objectCount);
+        gamePlayPane = new Pane();
+        gameObjectViews = new ArrayList<>();
+        for (GameObject gameObject : gameObjects) {
+            gameObjectViews.add(createGameObjectView(gameObject));
+        }
+        gamePlayPane.getChildren().addAll(gameObjectViews);
+    }
+
+    /**
+     * Clears a pane and fills it with a new view for every GameObject.
+     */
+    @Benchmark
+    public Pane buildViews() {
+        gamePlayPane.getChildren().clear();
+        for (GameObject gameObject : gameObjects) {
+            gamePlayPane.getChildren().add(createGameObjectView(gameObject));
+        }
+        return gamePlayPane;
+    }
+
+    /**
+     * Moves every existing view to the position of its GameObject.
+     */
+    @Benchmark
+    public List<GameObjectView> updateViews() {
+        for (int index = 0; index < gameObjects.size(); index++) {
+            GameObject gameObject = gameObjects.get(index);
+            GameObjectView gameObjectView = gameObjectViews.get(index);
+            gameObjectView.updatePos(gameObject.getX() * TILE_WIDTH, gameObject.getY() * TILE_HEIGHT);
+            gameObjectView.updateOrientation(gameObject.getXDirection());
+        }
+        return gameObjectViews;
+    }
+
+    private GameObjectView createGameObjectView(GameObject gameObject) {
+        GameObjectView gameObjectView = new GameObjectView(gameObject.getImgPath(), gameObject.getX(), gameObject.getY(),
+                gameObject.getWidth(), gameObject.getHeight(), gameObject.getXDirection());
+        gameObjectView.convertAttributesToGridBased(TILE_WIDTH, TILE_HEIGHT);
+        return gameObjectView;
+    }
+}
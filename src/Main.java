@@ -1,5 +1,7 @@
+import data.ErrorLogger;
 import data.ReadSaveException;
 import data.user.DuplicateUsernameException;
+import data.user.UserRepository;
 import javafx.application.Application;
 import javafx.stage.Stage;
 import pagination.MainMenu;
@@ -17,4 +19,10 @@ public class Main extends Application {
         MainMenu m = new MainMenu(stage);
         stage.show();
     }
+
+    @Override
+    public void stop() {
+        UserRepository.getInstance().flush();
+        ErrorLogger.flush();
+    }
 }
@@ -30,6 +30,7 @@ public class BankModel {
     private int moneyAvailable;
     private LinkedHashMap<BankItem, Integer> bankItems;
     private BankItem purchasedItem;
+    private int modificationCount;
 
     /**
      * The constructor to create a BankModel.
@@ -57,6 +58,15 @@ public class BankModel {
         return moneyAvailable;
     }
 
+    /**
+     * Returns the number of times the bank has been changed, so that its frontend only needs to be updated when this
+     * has increased.
+     * @return the number of changes made to the bank
+     */
+    public int getModificationCount() {
+        return modificationCount;
+    }
+
     /**
      * Returns whether or not the bank's current item is the first item in the bank; if not,
      * the bank therefore has a previous item.
@@ -102,6 +112,7 @@ public class BankModel {
             bankItems.remove(bankItem);
             curIndex = 0;
         }
+        modificationCount++;
     }
 
     /**
@@ -112,6 +123,7 @@ public class BankModel {
     public void addBankItem(BankItem bankItem) {
         bankItems.putIfAbsent(bankItem, 0);
         bankItems.put(bankItem, bankItems.get(bankItem)+1);
+        modificationCount++;
     }
 
     /**
@@ -121,6 +133,7 @@ public class BankModel {
      */
     public void addToMoneyAvailable(int money) {
         moneyAvailable += money;
+        modificationCount++;
     }
 
     /**
@@ -152,6 +165,7 @@ public class BankModel {
      */
     public void handlePrevRequest() {
         curIndex--;
+        modificationCount++;
     }
 
     /**
@@ -159,6 +173,7 @@ public class BankModel {
      */
     public void handleNextRequest() {
         curIndex++;
+        modificationCount++;
     }
 
     /**
@@ -36,6 +36,8 @@ public class BankView extends ViewPane {
     private StockedBankView stockedBankView;
     private EmptyBankView emptyBankView;
     private boolean hasEmptyBank;
+    private BankModel displayedBank;
+    private int displayedModificationCount;
 
     /**
      * The constructor to create a BankView.
@@ -63,10 +65,16 @@ public class BankView extends ViewPane {
     }
 
     /**
-     * Updates the bank's frontend elements on each step.
+     * Updates the bank's frontend elements on each step. Nothing is done unless the bank has changed since it was last
+     * displayed.
      * @param bank The backend BankModel associated with this frontend BankView
      */
     public void update(BankModel bank) {
+        if (bank == displayedBank && bank.getModificationCount() == displayedModificationCount) {
+            return;
+        }
+        displayedBank = bank;
+        displayedModificationCount = bank.getModificationCount();
         if (bank.isEmpty() && !hasEmptyBank) {
             activateEmptyBank();
         }
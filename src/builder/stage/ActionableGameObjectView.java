@@ -61,6 +61,7 @@ public class ActionableGameObjectView extends DraggableGameObjectView {
      */
     public void setIsActive(boolean isActive) {
         this.isActive = isActive;
+        setHasChanged(true);
     }
 
     /**
@@ -104,6 +105,9 @@ public class ActionableGameObjectView extends DraggableGameObjectView {
      */
     public void setHasNewActionItems(boolean hasNewActionItems) {
         this.hasNewActionItems = hasNewActionItems;
+        if (hasNewActionItems) {
+            setHasChanged(true);
+        }
     }
 
     /**
@@ -160,6 +164,7 @@ public class ActionableGameObjectView extends DraggableGameObjectView {
     private void recordNewActionIcons() {
         areActionIconsActive = true;
         hasNewActionItems = true;
+        setHasChanged(true);
     }
 
     private void createActionIcons() {
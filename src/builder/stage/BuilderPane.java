@@ -25,6 +25,10 @@ import java.util.ResourceBundle;
  * as well as defining how the user can interact with them. This class also defines how one can interact with BuilderPane itself
  * and choose to proceed to the game play for a level.
  *
+ * Each step only handles the objects that have changed since the last step, i.e. those that have been purchased, dragged
+ * or acted upon through their action icons, along with the objects around them. When nothing has changed, a step only
+ * checks the bank for a purchase.
+ *
  * @author Pierce Forte
  */
 public class BuilderPane extends DraggableTilePane {
@@ -40,6 +44,7 @@ public class BuilderPane extends DraggableTilePane {
     private ResourceBundle resources;
     private Button playButton;
     private boolean isDone;
+    private boolean hasChanged;
 
     /**
      * The constructor to create a BuilderPane.
@@ -59,17 +64,23 @@ public class BuilderPane extends DraggableTilePane {
         purchaseHandler = new BuilderPurchaseHandler(dimensions, bankController);
         stageExitHandler = new BuilderStageExitHandler(resources);
         playButton = createPlayButton();
+        hasChanged = true;
     }
 
     @Override
     public void update() {
         bankController.update();
         handlePurchasedItem();
-        snapItems();
+        List<BuilderObjectView> changedObjects = getChangedObjects();
+        if (changedObjects.isEmpty() && !hasChanged) {
+            return;
+        }
+        snapItems(changedObjects);
         placementHandler.setObjectsToCheck(myObjects);
-        placementHandler.handlePlacement();
-        addItemsBackToBank();
+        placementHandler.handlePlacement(changedObjects);
+        addItemsBackToBank(changedObjects);
         attemptToMakeGridDraggable();
+        hasChanged = false;
     }
 
     /**
@@ -104,8 +115,22 @@ public class BuilderPane extends DraggableTilePane {
         return dimensions;
     }
 
-    private void snapItems() {
+    /**
+     * Changes made while the changed objects are handled mark the objects again, so they are handled in the next step.
+     */
+    private List<BuilderObjectView> getChangedObjects() {
+        List<BuilderObjectView> changedObjects = new ArrayList<>();
         for (BuilderObjectView object : myObjects) {
+            if (object.hasChanged()) {
+                object.setHasChanged(false);
+                changedObjects.add(object);
+            }
+        }
+        return changedObjects;
+    }
+
+    private void snapItems(List<BuilderObjectView> objects) {
+        for (BuilderObjectView object : objects) {
             if (object.isReadyForSnap() && !object.isSnapped()) {
                 snapItem(object);
                 object.setIsSnapped(true);
@@ -148,12 +173,13 @@ public class BuilderPane extends DraggableTilePane {
         enableDrag();
     }
 
-    private void addItemsBackToBank() {
-        List<BuilderObjectView> itemsToSell = purchaseHandler.sellItems(myObjects);
+    private void addItemsBackToBank(List<BuilderObjectView> objects) {
+        List<BuilderObjectView> itemsToSell = purchaseHandler.sellItems(objects);
         for (BuilderObjectView item : itemsToSell) {
             this.getChildren().remove(item);
             this.getChildren().removeAll(item.getActionIcons());
             myObjects.remove(item);
+            placementHandler.removeObject(item);
         }
     }
 
@@ -161,6 +187,7 @@ public class BuilderPane extends DraggableTilePane {
         if (bankController.hasPurchasedItem()) {
             BuilderObjectView builderObjectView = purchaseHandler.handlePurchase(getTranslateX(), getTranslateY());
             myObjects.add(builderObjectView);
+            placementHandler.addObject(builderObjectView);
             this.getChildren().add(builderObjectView);
         }
     }
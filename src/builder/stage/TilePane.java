@@ -20,6 +20,11 @@ import javafx.scene.transform.NonInvertibleTransformException;
  * This class is most suitably used by nodes that have dimensions in units of the tiles used for this TilePane. If this is the case,
  * nodes will fit into the tiles properly and can be addressed based on the TilePane's coordinate system.
  *
+ * The tile grid is drawn on a canvas that only covers the screen (plus one tile, for tiles that are partly visible)
+ * rather than the whole TilePane, so large levels do not need a canvas as large as the level. Because every tile looks
+ * the same, the grid only needs to be drawn once; as the TilePane is moved, the canvas is moved to the first visible
+ * tile so that it always covers the part of the TilePane on screen.
+ *
  * This class is dependent on a dimensions object which determines its size and its tiles' size.
  *
  * @author Pierce Forte
@@ -35,6 +40,8 @@ public abstract class TilePane extends Pane {
     private Affine myGrid;
     private double tilesWide;
     private double tilesHigh;
+    private int canvasTilesWide;
+    private int canvasTilesHigh;
     private TilePaneDimensions dimensions;
 
     /**
@@ -47,8 +54,14 @@ public abstract class TilePane extends Pane {
         this.tilesHigh = dimensions.getMaxY() - dimensions.getMinY();
         setWidth(tilesWide * dimensions.getTileWidth());
         setHeight(tilesHigh * dimensions.getTileHeight());
-        this.canvas = new Canvas(getWidth(), getHeight());
+        setPrefSize(getWidth(), getHeight());
+        canvasTilesWide = getCanvasTiles(tilesWide, dimensions.getScreenWidth(), dimensions.getTileWidth());
+        canvasTilesHigh = getCanvasTiles(tilesHigh, dimensions.getScreenHeight(), dimensions.getTileHeight());
+        this.canvas = new Canvas(canvasTilesWide * dimensions.getTileWidth(), canvasTilesHigh * dimensions.getTileHeight());
         this.getChildren().add(canvas);
+        translateXProperty().addListener((observable, oldValue, newValue) -> positionCanvas());
+        translateYProperty().addListener((observable, oldValue, newValue) -> positionCanvas());
+        positionCanvas();
     }
 
     /**
@@ -108,13 +121,29 @@ public abstract class TilePane extends Pane {
         return adjustedPos;
     }
 
+    private int getCanvasTiles(double tiles, double screenSize, double tileSize) {
+        return (int) Math.max(0, Math.min(tiles, Math.ceil(screenSize / tileSize) + 1));
+    }
+
+    private void positionCanvas() {
+        canvas.setLayoutX(getFirstVisibleTile(getTranslateX(), dimensions.getTileWidth(), tilesWide, canvasTilesWide) *
+                dimensions.getTileWidth());
+        canvas.setLayoutY(getFirstVisibleTile(getTranslateY(), dimensions.getTileHeight(), tilesHigh, canvasTilesHigh) *
+                dimensions.getTileHeight());
+    }
+
+    private int getFirstVisibleTile(double gridPos, double tileSize, double tiles, int canvasTiles) {
+        int firstVisibleTile = (int) Math.floor(-1*gridPos / tileSize);
+        return (int) Math.max(0, Math.min(tiles - canvasTiles, firstVisibleTile));
+    }
+
     private void styleGrid() {
         GraphicsContext graphicContext = canvas.getGraphicsContext2D();
         graphicContext.setFill(CANVAS_COLOR);
         graphicContext.setStroke(CELL_COLOR);
-        graphicContext.fillRect(0, 0, getWidth(), getHeight());
-        for (int x = 0 ; x < tilesWide; x++) {
-            for (int y = 0; y < tilesHigh; y++) {
+        graphicContext.fillRect(0, 0, canvas.getWidth(), canvas.getHeight());
+        for (int x = 0 ; x < canvasTilesWide; x++) {
+            for (int y = 0; y < canvasTilesHigh; y++) {
                 graphicContext.strokeRect(x * dimensions.getTileWidth(), y* dimensions.getTileHeight(),
                         dimensions.getTileWidth(), dimensions.getTileHeight());
             }
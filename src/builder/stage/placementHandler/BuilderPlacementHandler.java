@@ -11,7 +11,9 @@ import javafx.scene.image.ImageView;
 import javafx.scene.paint.Color;
 
 import java.util.ArrayList;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Set;
 
 /**
  * This class supports the placement of objects on the BuilderPane.
@@ -23,6 +25,14 @@ import java.util.List;
  * are valid and signalling to the user when they are not (in this specific class, these cases occur when objects overlap or
  * out of the bounds determined by the PaneDimensions dependency).
  *
+ * Every object is recorded in a TileOccupancyGrid, so an object is only checked for overlap against the objects that
+ * share its tiles. Objects must be added when they are purchased and removed when they are sold; an object that has
+ * been dragged or snapped is moved within the grid the next time its placement is handled.
+ *
+ * Placement can also be handled for only the objects that have changed. Because moving or removing an object can make
+ * the placement of the objects around it valid or invalid, the movable objects that shared its tiles before it changed
+ * and those that share them afterwards are checked as well.
+ *
  * @author Pierce Forte
  */
 public class BuilderPlacementHandler implements PlacementHandler {
@@ -32,6 +42,7 @@ public class BuilderPlacementHandler implements PlacementHandler {
     private TilePaneDimensions dimensions;
     private List<GameObjectView> immovableObjects;
     private List<BuilderObjectView> objectsToCheck;
+    private TileOccupancyGrid occupancyGrid;
 
     /**
      * The constructor to create a BuilderPlacementHandler.
@@ -42,6 +53,10 @@ public class BuilderPlacementHandler implements PlacementHandler {
         this.dimensions = dimensions;
         this.immovableObjects = immovableObjects;
         objectsToCheck = new ArrayList<>();
+        occupancyGrid = new TileOccupancyGrid(dimensions);
+        for (GameObjectView object : immovableObjects) {
+            occupancyGrid.update(object);
+        }
     }
 
     /**
@@ -52,15 +67,49 @@ public class BuilderPlacementHandler implements PlacementHandler {
         this.objectsToCheck = builderObjectViews;
     }
 
+    /**
+     * Adds a movable object, typically one that has just been purchased, to the tiles it covers.
+     * @param object the BuilderObjectView to be added
+     */
+    public void addObject(BuilderObjectView object) {
+        occupancyGrid.update(object);
+    }
+
+    /**
+     * Removes a movable object, typically one that has just been sold, from the tiles it covers. The movable objects
+     * that shared its tiles are marked as changed, since their placement may now be valid.
+     * @param object the BuilderObjectView to be removed
+     */
+    public void removeObject(BuilderObjectView object) {
+        for (BuilderObjectView neighbor : getMovableNeighbors(object)) {
+            neighbor.setHasChanged(true);
+        }
+        occupancyGrid.remove(object);
+    }
+
     @Override
     public void handlePlacement() {
         for (BuilderObjectView object : objectsToCheck) {
-            if (checkForOverlap(object, objectsToCheck, immovableObjects) || isImageViewOutOfBounds(object)) {
-                handleInvalidPlacement(object);
-            }
-            else {
-                handleValidPlacement(object);
-            }
+            occupancyGrid.update(object);
+        }
+        for (BuilderObjectView object : objectsToCheck) {
+            handlePlacement(object);
+        }
+    }
+
+    /**
+     * Handles the placement of only the objects that have changed, along with the movable objects around them.
+     * @param changedObjects the movable BuilderObjectViews that have changed
+     */
+    public void handlePlacement(List<BuilderObjectView> changedObjects) {
+        Set<BuilderObjectView> affectedObjects = new LinkedHashSet<>(changedObjects);
+        for (BuilderObjectView object : changedObjects) {
+            affectedObjects.addAll(getMovableNeighbors(object));
+            occupancyGrid.update(object);
+            affectedObjects.addAll(getMovableNeighbors(object));
+        }
+        for (BuilderObjectView object : affectedObjects) {
+            handlePlacement(object);
         }
     }
 
@@ -72,14 +121,27 @@ public class BuilderPlacementHandler implements PlacementHandler {
                 imageView.getY() + imageView.getFitHeight() > dimensions.getMaxY()*dimensions.getTileHeight();
     }
 
-    private boolean checkForOverlap(BuilderObjectView object, List<BuilderObjectView> movableObjects,
-                                    List<GameObjectView> immovableObjects) {
-        List<GameObjectView> otherObjects = new ArrayList<>(movableObjects);
-        otherObjects.addAll(immovableObjects);
-        for (ImageView otherObject : otherObjects) {
-            if (object.equals(otherObject)) {
-                continue;
+    private void handlePlacement(BuilderObjectView object) {
+        if (checkForOverlap(object) || isImageViewOutOfBounds(object)) {
+            handleInvalidPlacement(object);
+        }
+        else {
+            handleValidPlacement(object);
+        }
+    }
+
+    private List<BuilderObjectView> getMovableNeighbors(BuilderObjectView object) {
+        List<BuilderObjectView> neighbors = new ArrayList<>();
+        for (ImageView neighbor : occupancyGrid.getNeighbors(object)) {
+            if (neighbor instanceof BuilderObjectView) {
+                neighbors.add((BuilderObjectView) neighbor);
             }
+        }
+        return neighbors;
+    }
+
+    private boolean checkForOverlap(BuilderObjectView object) {
+        for (ImageView otherObject : occupancyGrid.getNeighbors(object)) {
             if (object.overlaps(otherObject)) {
                 return true;
             }
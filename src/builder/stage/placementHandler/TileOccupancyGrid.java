@@ -0,0 +1,163 @@
+package builder.stage.placementHandler;
+
+import builder.stage.TilePaneDimensions;
+import javafx.scene.image.ImageView;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * This class records which tiles of a TilePane each object on it covers, so that the objects near a given object can be
+ * found by looking up the tiles it covers rather than by checking every object on the pane.
+ *
+ * Objects are indexed by the position and size they had when they were last added or updated, so an object must be
+ * updated whenever it moves. Updating an object that has not moved does nothing. Objects that are partly or entirely
+ * outside of the pane are indexed in the tiles at its edge.
+ *
+ * This class is dependent on the dimensions of its TilePane, which determine the number and size of its tiles.
+ */
+public class TileOccupancyGrid {
+
+    private TilePaneDimensions dimensions;
+    private int columns;
+    private int rows;
+    private List<List<ImageView>> tiles;
+    private Map<ImageView, double[]> indexedBounds;
+
+    /**
+     * The constructor to create a TileOccupancyGrid.
+     * @param dimensions the dimensions of the TilePane whose tiles are recorded
+     */
+    public TileOccupancyGrid(TilePaneDimensions dimensions) {
+        this.dimensions = dimensions;
+        columns = Math.max(1, dimensions.getMaxX() - dimensions.getMinX());
+        rows = Math.max(1, dimensions.getMaxY() - dimensions.getMinY());
+        tiles = new ArrayList<>(Collections.nCopies(columns * rows, (List<ImageView>) null));
+        indexedBounds = new HashMap<>();
+    }
+
+    /**
+     * Adds an object to the tiles that it covers, or moves it to them if it has already been added.
+     * @param object the object to be added
+     */
+    public void update(ImageView object) {
+        double[] bounds = indexedBounds.get(object);
+        if (bounds != null && bounds[0] == object.getX() && bounds[1] == object.getY() &&
+                bounds[2] == object.getFitWidth() && bounds[3] == object.getFitHeight()) {
+            return;
+        }
+        remove(object);
+        bounds = new double[] {object.getX(), object.getY(), object.getFitWidth(), object.getFitHeight()};
+        indexedBounds.put(object, bounds);
+        int[] range = getTileRange(bounds);
+        for (int row = range[1]; row <= range[3]; row++) {
+            for (int column = range[0]; column <= range[2]; column++) {
+                int tile = row * columns + column;
+                if (tiles.get(tile) == null) {
+                    tiles.set(tile, new ArrayList<>());
+                }
+                tiles.get(tile).add(object);
+            }
+        }
+    }
+
+    /**
+     * Removes an object from the tiles that it covers, doing nothing if it has not been added.
+     * @param object the object to be removed
+     */
+    public void remove(ImageView object) {
+        double[] bounds = indexedBounds.remove(object);
+        if (bounds == null) {
+            return;
+        }
+        int[] range = getTileRange(bounds);
+        for (int row = range[1]; row <= range[3]; row++) {
+            for (int column = range[0]; column <= range[2]; column++) {
+                tiles.get(row * columns + column).remove(object);
+            }
+        }
+    }
+
+    /**
+     * Returns the other objects that cover any of the tiles covered by an object, as of when they were last updated.
+     * These are the only objects that the object can overlap.
+     * @param object the object, which must have been added
+     * @return the other objects in the object's tiles, which may contain an object more than once
+     */
+    public List<ImageView> getNeighbors(ImageView object) {
+        List<ImageView> neighbors = new ArrayList<>();
+        double[] bounds = indexedBounds.get(object);
+        if (bounds == null) {
+            return neighbors;
+        }
+        int[] range = getTileRange(bounds);
+        for (int row = range[1]; row <= range[3]; row++) {
+            for (int column = range[0]; column <= range[2]; column++) {
+                List<ImageView> tile = tiles.get(row * columns + column);
+                if (tile == null) {
+                    continue;
+                }
+                for (ImageView other : tile) {
+                    if (other != object) {
+                        neighbors.add(other);
+                    }
+                }
+            }
+        }
+        return neighbors;
+    }
+
+    /**
+     * Returns whether a tile is covered by any object. Objects outside of the pane are indexed in the tiles at its edge,
+     * so a tile outside of the pane is never occupied.
+     * @param column the tile's x position, in tiles
+     * @param row the tile's y position, in tiles
+     * @return whether the tile is occupied
+     */
+    public boolean isOccupied(int column, int row) {
+        int gridColumn = column - dimensions.getMinX();
+        int gridRow = row - dimensions.getMinY();
+        if (gridColumn < 0 || gridColumn >= columns || gridRow < 0 || gridRow >= rows) {
+            return false;
+        }
+        List<ImageView> tile = tiles.get(gridRow * columns + gridColumn);
+        return tile != null && !tile.isEmpty();
+    }
+
+    /**
+     * An object facing left has a negative width, so it covers the tiles between its far edge and its position.
+     */
+    private int[] getTileRange(double[] bounds) {
+        double minX = Math.min(bounds[0], bounds[0] + bounds[2]);
+        double minY = Math.min(bounds[1], bounds[1] + bounds[3]);
+        double maxX = Math.max(bounds[0], bounds[0] + bounds[2]);
+        double maxY = Math.max(bounds[1], bounds[1] + bounds[3]);
+        int firstColumn = getTile(minX, dimensions.getTileWidth(), dimensions.getMinX(), columns);
+        int firstRow = getTile(minY, dimensions.getTileHeight(), dimensions.getMinY(), rows);
+        return new int[] {
+                firstColumn,
+                firstRow,
+                Math.max(firstColumn, getLastTile(maxX, dimensions.getTileWidth(), dimensions.getMinX(), columns)),
+                Math.max(firstRow, getLastTile(maxY, dimensions.getTileHeight(), dimensions.getMinY(), rows))
+        };
+    }
+
+    private int getTile(double pos, double tileSize, int min, int count) {
+        return clamp((int) Math.floor(pos / tileSize) - min, count);
+    }
+
+    /**
+     * Objects only overlap if their interiors do, so an object whose far edge lies on the edge of a tile does not cover
+     * the tile beyond it.
+     */
+    private int getLastTile(double pos, double tileSize, int min, int count) {
+        return clamp((int) Math.ceil(pos / tileSize) - 1 - min, count);
+    }
+
+    private int clamp(int tile, int count) {
+        return Math.max(0, Math.min(count - 1, tile));
+    }
+}
@@ -1,40 +1,206 @@
 package data;
 
-import org.json.simple.JSONObject;
-import org.json.simple.parser.JSONParser;
-
 import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 
+/**
+ * Logs exceptions to the error log. Logging only adds the exception to a bounded queue, so it never blocks the thread
+ * that hit the error; a background thread formats queued exceptions and appends them to the log. If exceptions are
+ * logged faster than they can be written and the queue fills, further exceptions are dropped and counted, and the
+ * number dropped is written to the log with the next exception or flush.
+ *
+ * Each record holds the time, the name of the thread that logged it and the exception's stack trace. Once the log
+ * reaches MAX_FILE_SIZE bytes, it is moved to ErrorLog.txt.1 (and any older logs are shifted up, keeping at most
+ * MAX_OLD_FILES) and a new log is started.
+ *
+ * The log is resources/data/ErrorLog.txt unless another file is set, which tests do so that they do not write to it.
+ */
 public final class ErrorLogger {
 
+    public static final int CAPACITY = 1024;
+    public static final long MAX_FILE_SIZE = 1 << 20;
+    public static final int MAX_OLD_FILES = 3;
     private static final String fileLoc = "resources/data/ErrorLog.txt";
+    private static final long FLUSH_TIMEOUT = 1000;
+
+    static final Path DEFAULT_FILE = Paths.get(fileLoc);
+    private static Path file = DEFAULT_FILE;
+    private static final BlockingQueue<Record> queue = new ArrayBlockingQueue<>(CAPACITY);
+    private static final AtomicLong dropped = new AtomicLong();
+    private static long reported;
+    private static final Object fileLock = new Object();
+    private static Writer writer;
+    private static long fileSize;
+
+    static {
+        Thread thread = new Thread(ErrorLogger::writeRecords, "ErrorLogger");
+        thread.setDaemon(true);
+        thread.start();
+        Runtime.getRuntime().addShutdownHook(new Thread(ErrorLogger::flush));
+    }
 
     private ErrorLogger() {}
+
     public static void clear() {
-        try {
-            File temp = new File(fileLoc);
-            if (temp.exists()) {
-                RandomAccessFile raf = new RandomAccessFile(temp, "rw");
-                raf.setLength(0);
+        synchronized (fileLock) {
+            try {
+                closeWriter();
+                if (Files.exists(file)) {
+                    Files.newBufferedWriter(file, StandardOpenOption.TRUNCATE_EXISTING).close();
+                }
+            } catch (IOException e) {
+                e.printStackTrace();
             }
-        }catch (IOException e) {
-            e.printStackTrace();
         }
+    }
 
+    /**
+     * Sets the file that exceptions are written to from now on. Exceptions that are still queued may be written to
+     * either file, so flush() should be called first.
+     * @param path the log file; older logs are kept next to it
+     */
+    static void setFile(Path path) {
+        synchronized (fileLock) {
+            try {
+                closeWriter();
+            } catch (IOException e) {
+                e.printStackTrace();
+            }
+            file = path;
+        }
     }
 
     public static void log(Exception e) {
+        if (!queue.offer(new Record(e, Thread.currentThread().getName(), null))) {
+            dropped.incrementAndGet();
+        }
+    }
+
+    /**
+     * @return - the number of exceptions that have been dropped because the queue was full
+     */
+    public static long getDroppedCount() {
+        return dropped.get();
+    }
+
+    /**
+     * Waits until every exception logged so far has been written to the log
+     */
+    public static void flush() {
+        CountDownLatch written = new CountDownLatch(1);
         try {
-            String stackTrace = e.toString() + "\n";
-            for (StackTraceElement element : e.getStackTrace()) {
-                stackTrace = stackTrace + "  " + element.toString() + "\n";
+            if (queue.offer(new Record(null, null, written), FLUSH_TIMEOUT, TimeUnit.MILLISECONDS)) {
+                written.await(FLUSH_TIMEOUT, TimeUnit.MILLISECONDS);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void writeRecords() {
+        while (true) {
+            try {
+                Record record = queue.take();
+                synchronized (fileLock) {
+                    while (record != null) {
+                        write(record);
+                        record = queue.poll();
+                    }
+                    if (writer != null) writer.flush();
+                }
+            } catch (InterruptedException e) {
+                return;
+            } catch (IOException p) {
+                p.printStackTrace();
+            }
+        }
+    }
+
+    private static void write(Record record) throws IOException {
+        writeDropped(record.time);
+        if (record.exception == null) {
+            if (writer != null) writer.flush();
+            record.written.countDown();
+            return;
+        }
+        StringBuilder stackTrace = new StringBuilder();
+        stackTrace.append(record.time).append(" [").append(record.thread).append("] ")
+                .append(record.exception.toString()).append("\n");
+        for (StackTraceElement element : record.exception.getStackTrace()) {
+            stackTrace.append("  ").append(element.toString()).append("\n");
+        }
+        System.out.print(stackTrace);
+        append(stackTrace.toString());
+    }
+
+    private static void writeDropped(LocalDateTime time) throws IOException {
+        long droppedCount = dropped.get();
+        if (droppedCount > reported) {
+            append(time + " [ErrorLogger] " + (droppedCount - reported) + " errors were dropped\n");
+            reported = droppedCount;
+        }
+    }
+
+    private static void append(String text) throws IOException {
+        if (writer == null) {
+            Files.createDirectories(file.toAbsolutePath().getParent());
+            writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8, StandardOpenOption.CREATE,
+                    StandardOpenOption.APPEND);
+            fileSize = Files.size(file);
+        }
+        writer.write(text);
+        fileSize += text.getBytes(StandardCharsets.UTF_8).length;
+        if (fileSize >= MAX_FILE_SIZE) {
+            rotate();
+        }
+    }
+
+    private static void rotate() throws IOException {
+        closeWriter();
+        for (int index = MAX_OLD_FILES - 1; index >= 1; index--) {
+            Path older = getOldFile(index);
+            if (Files.exists(older)) {
+                Files.move(older, getOldFile(index + 1), StandardCopyOption.REPLACE_EXISTING);
             }
-            System.out.println(stackTrace);
-            PrintWriter out = new PrintWriter(fileLoc);
-            out.print(stackTrace);
-            out.close();
-        } catch (IOException p) {
-            p.printStackTrace();
+        }
+        Files.move(file, getOldFile(1), StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    private static Path getOldFile(int index) {
+        return file.resolveSibling(file.getFileName() + "." + index);
+    }
+
+    private static void closeWriter() throws IOException {
+        if (writer != null) {
+            writer.close();
+            writer = null;
+        }
+    }
+
+    /**
+     * A logged exception, or a request to be told once every earlier record has been written
+     */
+    private static class Record {
+        private final Exception exception;
+        private final String thread;
+        private final CountDownLatch written;
+        private final LocalDateTime time = LocalDateTime.now();
+
+        private Record(Exception exception, String thread, CountDownLatch written) {
+            this.exception = exception;
+            this.thread = thread;
+            this.written = written;
         }
     }
 }
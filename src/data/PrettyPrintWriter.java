@@ -0,0 +1,105 @@
+package data;
+
+import java.io.FilterWriter;
+import java.io.IOException;
+import java.io.Writer;
+
+/**
+ * This class formats JSON as it is written, producing the same layout as PrettyPrint. Each character is written to the
+ * underlying Writer as soon as the character after it is known, so JSON can be formatted in a single pass without
+ * holding the whole string in memory; only the current indentation and a stack of the open brackets are kept.
+ *
+ * The last character is only written when this writer is closed, so it must be closed once the JSON has been written.
+ */
+public class PrettyPrintWriter extends FilterWriter {
+    private static final char NONE = 0;
+    private static final String newline = "\n";
+    private static final String basicBuffer = "  ";
+
+    private StringBuilder last = new StringBuilder();
+    private int depth;
+    private char previous = NONE;
+    private char pending = NONE;
+    private boolean hasPending;
+
+    public PrettyPrintWriter(Writer out) {
+        super(out);
+    }
+
+    @Override
+    public void write(int c) throws IOException {
+        if (hasPending) {
+            format(pending, (char) c);
+            previous = pending;
+        }
+        pending = (char) c;
+        hasPending = true;
+    }
+
+    @Override
+    public void write(char[] chars, int offset, int length) throws IOException {
+        for (int index = offset; index < offset + length; index++) {
+            write(chars[index]);
+        }
+    }
+
+    @Override
+    public void write(String string, int offset, int length) throws IOException {
+        for (int index = offset; index < offset + length; index++) {
+            write(string.charAt(index));
+        }
+    }
+
+    /**
+     * Writes the last character and closes the underlying Writer.
+     */
+    @Override
+    public void close() throws IOException {
+        if (hasPending) {
+            format(pending, NONE);
+            hasPending = false;
+        }
+        super.close();
+    }
+
+    private void format(char letter, char nextLetter) throws IOException {
+        out.write(letter);
+        if (letter == '{') {
+            last.append(letter);
+            depth++;
+            newline();
+        }
+        if (letter == '[') {
+            last.append(letter);
+            if (nextLetter == '[') {
+                depth++;
+                newline();
+            }
+        }
+        if (letter == ']' && nextLetter != NONE) {
+            last.setLength(last.length() - 1);
+            if (nextLetter != ',' && nextLetter != '}') {
+                unindent();
+                newline();
+            }
+        }
+        if (letter == ',' && (previous == ']' || previous == '}' || last.charAt(last.length() - 1) == '{')) {
+            newline();
+        }
+        if (nextLetter == '}') {
+            unindent();
+            newline();
+        }
+    }
+
+    private void unindent() {
+        if (depth > 0) depth--;
+    }
+
+    private void newline() throws IOException {
+        out.write(newline);
+        for (int level = 0; level < depth; level++) {
+            out.write(basicBuffer);
+        }
+    }
+}
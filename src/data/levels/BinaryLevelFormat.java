@@ -0,0 +1,431 @@
+package data.levels;
+
+import data.ErrorLogger;
+import engine.gameobject.GameObject;
+import engine.gameobject.StationaryGameObject;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * This class reads and writes levels in a compact binary format. JSON level files remain the format for designing
+ * levels by hand, but they repeat the class of every parameter and store every number as a string, so they are large
+ * and slow to parse. A binary level file holds the same information in the following layout:
+ *
+ *   - the magic number "SNLV" and the format version
+ *   - a type dictionary: each GameObject class used, with the types of its constructor's parameters
+ *   - a string table: every distinct string parameter (e.g. image paths), stored once
+ *   - an index: each level's name, with the offset and length of its records
+ *   - the levels' records: for each level, the number of GameObjects, followed by one record per GameObject holding
+ *     its type's index in the dictionary and then its parameters, packed as primitives (strings are stored as indices
+ *     in the string table)
+ *
+ * Indices and counts are written as variable-length integers, so most take a single byte.
+ *
+ * Parameters are written in the order that the GameObject's constructor takes them, which is not always the order of
+ * getParameters(): stationary objects are constructed with their y position before their x position.
+ *
+ * Only the dictionary, string table and index are decoded when a file is read. A level's records are decoded each time
+ * its GameObjects are created, so a file can be memory-mapped through map() and its levels loaded as they are needed,
+ * without the rest of the file being read into memory.
+ */
+public class BinaryLevelFormat {
+
+    public static final int VERSION = 2;
+    public static final String FILE_EXTENSION = ".bin";
+    private static final int MAGIC = 0x534E4C56;
+    private static final int STRING = 0;
+    private static final int DOUBLE = 1;
+    private static final int INTEGER = 2;
+    private static final int LONG = 3;
+    private static final int BOOLEAN = 4;
+    private static final int OTHER = 5;
+    private static final int X_PARAM = 3;
+    private static final int Y_PARAM = 4;
+    private static final Map<Class<?>, Integer> typeCodes = Map.of(
+            String.class, STRING,
+            Double.class, DOUBLE,
+            Integer.class, INTEGER,
+            Long.class, LONG,
+            Boolean.class, BOOLEAN
+    );
+
+    private ObjectType[] types;
+    private String[] strings;
+    private Map<String, ByteBuffer> levels = new LinkedHashMap<>();
+
+    private BinaryLevelFormat(ByteBuffer buffer) throws IOException {
+        DataInputStream data = asStream(buffer);
+        if (data.readInt() != MAGIC) {
+            throw new IOException("Not a binary level file");
+        }
+        int version = data.readUnsignedShort();
+        if (version != VERSION) {
+            throw new IOException("Unsupported binary level file version " + version);
+        }
+        types = new ObjectType[readVarInt(data)];
+        for (int index = 0; index < types.length; index++) {
+            types[index] = readType(data);
+        }
+        strings = new String[readVarInt(data)];
+        for (int index = 0; index < strings.length; index++) {
+            strings[index] = data.readUTF();
+        }
+        readIndex(buffer, data);
+    }
+
+    /**
+     * Writes levels in the binary format.
+     * @param levels the GameObjects of each level, by the level's name (e.g. "0" or "temp")
+     * @param out the stream to write to; it is not closed
+     */
+    public static void write(Map<String, List<GameObject>> levels, OutputStream out) throws IOException {
+        Map<String, Integer> typeIndices = new LinkedHashMap<>();
+        List<Class<?>[]> typeSignatures = new ArrayList<>();
+        Map<String, Integer> stringIndices = new LinkedHashMap<>();
+        for (List<GameObject> gameObjects : levels.values()) {
+            for (GameObject gameObject : gameObjects) {
+                addType(gameObject, typeIndices, typeSignatures);
+                for (Object param : getConstructorParameters(gameObject)) {
+                    if (!typeCodes.containsKey(param.getClass()) || param instanceof String) {
+                        stringIndices.putIfAbsent(param.toString(), stringIndices.size());
+                    }
+                }
+            }
+        }
+        DataOutputStream data = new DataOutputStream(out);
+        data.writeInt(MAGIC);
+        data.writeShort(VERSION);
+        writeVarInt(data, typeSignatures.size());
+        for (Class<?>[] signature : typeSignatures) {
+            data.writeUTF(signature[0].getName());
+            writeVarInt(data, signature.length - 1);
+            for (int index = 1; index < signature.length; index++) {
+                int code = typeCodes.getOrDefault(signature[index], OTHER);
+                data.writeByte(code);
+                if (code == OTHER) {
+                    data.writeUTF(signature[index].getName());
+                }
+            }
+        }
+        writeVarInt(data, stringIndices.size());
+        for (String string : stringIndices.keySet()) {
+            data.writeUTF(string);
+        }
+        Map<String, byte[]> blocks = new LinkedHashMap<>();
+        for (Map.Entry<String, List<GameObject>> level : levels.entrySet()) {
+            ByteArrayOutputStream block = new ByteArrayOutputStream();
+            DataOutputStream blockData = new DataOutputStream(block);
+            writeVarInt(blockData, level.getValue().size());
+            for (GameObject gameObject : level.getValue()) {
+                writeVarInt(blockData, typeIndices.get(signatureKey(gameObject)));
+                for (Object param : getConstructorParameters(gameObject)) {
+                    writeParam(blockData, param, stringIndices);
+                }
+            }
+            blocks.put(level.getKey(), block.toByteArray());
+        }
+        writeVarInt(data, blocks.size());
+        int offset = 0;
+        for (Map.Entry<String, byte[]> block : blocks.entrySet()) {
+            data.writeUTF(block.getKey());
+            data.writeInt(offset);
+            data.writeInt(block.getValue().length);
+            offset += block.getValue().length;
+        }
+        for (byte[] block : blocks.values()) {
+            data.write(block);
+        }
+        data.flush();
+    }
+
+    /**
+     * Reads levels in the binary format from a stream, which is read into memory in full.
+     * @param in the stream to read from; it is not closed
+     * @return the levels
+     */
+    public static BinaryLevelFormat read(InputStream in) throws IOException {
+        return new BinaryLevelFormat(ByteBuffer.wrap(in.readAllBytes()));
+    }
+
+    /**
+     * Reads levels in the binary format by memory-mapping a file. Only the file's header is read; each level's records
+     * are only read, by the operating system, once the level is created.
+     * @param path the path to the file
+     * @return the levels
+     */
+    public static BinaryLevelFormat map(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            return new BinaryLevelFormat(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+        }
+    }
+
+    /**
+     * Gets the names of the levels that were read.
+     * @return the names of the levels
+     */
+    public Set<String> getLevelNames() {
+        return levels.keySet();
+    }
+
+    /**
+     * Determines whether a level was read.
+     * @param name the name of the level
+     * @return whether the level was read
+     */
+    public boolean containsLevel(String name) {
+        return levels.containsKey(name);
+    }
+
+    /**
+     * Creates the GameObjects of a level, decoding its records. A GameObject that cannot be created is logged and
+     * skipped, as it is when a JSON level file is read.
+     * @param name the name of the level
+     * @return the GameObjects, or an empty list if the level was not read
+     */
+    public List<GameObject> createLevel(String name) {
+        List<GameObject> gameObjects = new ArrayList<>();
+        if (!levels.containsKey(name)) {
+            return gameObjects;
+        }
+        DataInputStream data = asStream(levels.get(name).duplicate());
+        try {
+            int objectCount = readVarInt(data);
+            for (int index = 0; index < objectCount; index++) {
+                ObjectType type = readRecordType(data);
+                Object[] params = readParams(data, type);
+                try {
+                    gameObjects.add(type.getFactory().newInstance(params));
+                } catch (ReflectiveOperationException e) {
+                    ErrorLogger.log(e);
+                }
+            }
+        } catch (IOException e) {
+            ErrorLogger.log(e);
+        }
+        return gameObjects;
+    }
+
+    private void readIndex(ByteBuffer buffer, DataInputStream data) throws IOException {
+        int levelCount = readVarInt(data);
+        Map<String, int[]> index = new LinkedHashMap<>();
+        for (int level = 0; level < levelCount; level++) {
+            index.put(data.readUTF(), new int[] {data.readInt(), data.readInt()});
+        }
+        int dataStart = buffer.position();
+        for (Map.Entry<String, int[]> entry : index.entrySet()) {
+            int offset = entry.getValue()[0];
+            int length = entry.getValue()[1];
+            if (offset < 0 || length < 0 || dataStart + offset + length > buffer.limit()) {
+                throw new IOException("Invalid offset for level " + entry.getKey());
+            }
+            levels.put(entry.getKey(), slice(buffer, dataStart + offset, length));
+        }
+    }
+
+    private ObjectType readRecordType(DataInputStream data) throws IOException {
+        int typeIndex = readVarInt(data);
+        if (typeIndex >= types.length) {
+            throw new IOException("Invalid type index " + typeIndex);
+        }
+        return types[typeIndex];
+    }
+
+    private Object[] readParams(DataInputStream data, ObjectType type) throws IOException {
+        Object[] params = new Object[type.codes.length];
+        for (int param = 0; param < params.length; param++) {
+            params[param] = readParam(data, type.codes[param], type.paramTypes[param]);
+        }
+        return params;
+    }
+
+    private static ByteBuffer slice(ByteBuffer buffer, int start, int length) {
+        ByteBuffer slice = buffer.duplicate();
+        slice.position(start);
+        slice.limit(start + length);
+        return slice.slice().asReadOnlyBuffer();
+    }
+
+    private static DataInputStream asStream(ByteBuffer buffer) {
+        return new DataInputStream(new InputStream() {
+            @Override
+            public int read() {
+                return buffer.hasRemaining() ? buffer.get() & 0xFF : -1;
+            }
+
+            @Override
+            public int read(byte[] bytes, int offset, int length) {
+                if (!buffer.hasRemaining()) {
+                    return -1;
+                }
+                length = Math.min(length, buffer.remaining());
+                buffer.get(bytes, offset, length);
+                return length;
+            }
+        });
+    }
+
+    private static void addType(GameObject gameObject, Map<String, Integer> typeIndices, List<Class<?>[]> typeSignatures) {
+        String key = signatureKey(gameObject);
+        if (!typeIndices.containsKey(key)) {
+            List<Object> params = getConstructorParameters(gameObject);
+            Class<?>[] signature = new Class<?>[params.size() + 1];
+            signature[0] = gameObject.getClass();
+            for (int index = 0; index < params.size(); index++) {
+                signature[index + 1] = params.get(index).getClass();
+            }
+            typeIndices.put(key, typeSignatures.size());
+            typeSignatures.add(signature);
+        }
+    }
+
+    private static String signatureKey(GameObject gameObject) {
+        StringBuilder key = new StringBuilder(gameObject.getClass().getName());
+        for (Object param : getConstructorParameters(gameObject)) {
+            key.append(',').append(param.getClass().getName());
+        }
+        return key.toString();
+    }
+
+    /**
+     * getParameters() lists positions as x then y, but StationaryGameObject's constructor takes y then x.
+     */
+    private static List<Object> getConstructorParameters(GameObject gameObject) {
+        List<Object> params = new ArrayList<>(gameObject.getParameters());
+        if (gameObject instanceof StationaryGameObject && params.size() > Y_PARAM) {
+            Collections.swap(params, X_PARAM, Y_PARAM);
+        }
+        return params;
+    }
+
+    private static void writeParam(DataOutputStream data, Object param, Map<String, Integer> stringIndices) throws IOException {
+        switch (typeCodes.getOrDefault(param.getClass(), OTHER)) {
+            case DOUBLE:
+                data.writeDouble((Double) param);
+                break;
+            case INTEGER:
+                data.writeInt((Integer) param);
+                break;
+            case LONG:
+                data.writeLong((Long) param);
+                break;
+            case BOOLEAN:
+                data.writeBoolean((Boolean) param);
+                break;
+            default:
+                writeVarInt(data, stringIndices.get(param.toString()));
+        }
+    }
+
+    private Object readParam(DataInputStream data, int code, Class<?> paramType) throws IOException {
+        switch (code) {
+            case DOUBLE:
+                return data.readDouble();
+            case INTEGER:
+                return data.readInt();
+            case LONG:
+                return data.readLong();
+            case BOOLEAN:
+                return data.readBoolean();
+            case STRING:
+                return readString(data);
+            default:
+                try {
+                    return GameObjectFactory.getParser(paramType).apply(readString(data));
+                } catch (ReflectiveOperationException | RuntimeException e) {
+                    throw new IOException("Cannot read parameter of type " + paramType.getName(), e);
+                }
+        }
+    }
+
+    private String readString(DataInputStream data) throws IOException {
+        int index = readVarInt(data);
+        if (index >= strings.length) {
+            throw new IOException("Invalid string index " + index);
+        }
+        return strings[index];
+    }
+
+    private static ObjectType readType(DataInputStream data) throws IOException {
+        String className = data.readUTF();
+        int[] codes = new int[readVarInt(data)];
+        Class<?>[] paramTypes = new Class<?>[codes.length];
+        for (int index = 0; index < codes.length; index++) {
+            codes[index] = data.readUnsignedByte();
+            try {
+                paramTypes[index] = codes[index] == OTHER ? GameObjectFactory.forName(data.readUTF()) : typeOf(codes[index]);
+            } catch (ClassNotFoundException e) {
+                throw new IOException("Unknown parameter type in binary level file", e);
+            }
+        }
+        return new ObjectType(className, codes, paramTypes);
+    }
+
+    private static Class<?> typeOf(int code) throws IOException {
+        for (Map.Entry<Class<?>, Integer> entry : typeCodes.entrySet()) {
+            if (entry.getValue() == code) {
+                return entry.getKey();
+            }
+        }
+        throw new IOException("Unknown parameter type code " + code);
+    }
+
+    private static void writeVarInt(DataOutputStream data, int value) throws IOException {
+        while ((value & ~0x7F) != 0) {
+            data.writeByte((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        data.writeByte(value);
+    }
+
+    private static int readVarInt(DataInputStream data) throws IOException {
+        int value = 0;
+        for (int shift = 0; shift < Integer.SIZE; shift += 7) {
+            int b = data.readUnsignedByte();
+            value |= (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IOException("Malformed variable-length integer");
+    }
+
+    /**
+     * A GameObject class and constructor signature from the type dictionary. The constructor is looked up the first
+     * time an object of this type is created, so that a level file naming a class that no longer exists can still be
+     * read, with only that class's objects being skipped.
+     */
+    private static class ObjectType {
+        private String className;
+        private int[] codes;
+        private Class<?>[] paramTypes;
+        private GameObjectFactory factory;
+
+        private ObjectType(String className, int[] codes, Class<?>[] paramTypes) {
+            this.className = className;
+            this.codes = codes;
+            this.paramTypes = paramTypes;
+        }
+
+        private synchronized GameObjectFactory getFactory() throws ReflectiveOperationException {
+            if (factory == null) {
+                factory = GameObjectFactory.forSignature(GameObjectFactory.forName(className), paramTypes);
+            }
+            return factory;
+        }
+    }
+}
@@ -0,0 +1,176 @@
+package data.levels;
+
+import engine.gameobject.GameObject;
+import org.json.simple.JSONArray;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.UndeclaredThrowableException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * This class creates GameObjects from the parameter lists saved in level files. Each saved parameter names its type,
+ * and the GameObject is created through the constructor whose parameters have these types.
+ *
+ * Looking up classes and constructors through reflection is slow, and a level contains many objects with the same
+ * class and constructor signature. A factory is therefore created once per signature and cached, holding a
+ * MethodHandle for the constructor and a parser for each of its parameters. Common parameter types are parsed directly
+ * rather than by reflectively calling their valueOf method.
+ *
+ * The caches are shared by every LevelData and are safe to use from multiple threads.
+ */
+class GameObjectFactory {
+
+    private static final String STRING_TYPE = "java.lang.String";
+    private static final Map<String, GameObjectFactory> factories = new ConcurrentHashMap<>();
+    private static final Map<String, Class<?>> classes = new ConcurrentHashMap<>();
+    private static final Map<Class<?>, Function<String, Object>> parsers = new ConcurrentHashMap<>(Map.of(
+            Double.class, Double::valueOf,
+            Integer.class, Integer::valueOf,
+            Long.class, Long::valueOf,
+            Boolean.class, Boolean::valueOf,
+            String.class, value -> value
+    ));
+
+    private MethodHandle constructor;
+    private List<Function<String, Object>> paramParsers;
+
+    private GameObjectFactory(Class<?> objClass, Class<?>[] paramTypes) throws NoSuchMethodException, IllegalAccessException {
+        constructor = MethodHandles.publicLookup()
+                .unreflectConstructor(objClass.getDeclaredConstructor(paramTypes))
+                .asSpreader(Object[].class, paramTypes.length)
+                .asType(MethodType.methodType(Object.class, Object[].class));
+        paramParsers = new ArrayList<>(paramTypes.length);
+        for (Class<?> paramType : paramTypes) {
+            paramParsers.add(getParser(paramType));
+        }
+    }
+
+    /**
+     * Creates a GameObject from its saved parameters.
+     * @param objClass the class of the GameObject
+     * @param parameters the saved parameters, each a pair of the parameter's type and value
+     * @return the GameObject
+     */
+    static GameObject create(Class<?> objClass, JSONArray parameters) throws ClassNotFoundException, NoSuchMethodException, IllegalAccessException, InvocationTargetException {
+        return getFactory(objClass, parameters).newInstance(parameters);
+    }
+
+    /**
+     * Finds a class by its name, looking it up only the first time it is needed.
+     * @param className the fully qualified name of the class
+     * @return the class
+     */
+    static Class<?> forName(String className) throws ClassNotFoundException {
+        Class<?> found = classes.get(className);
+        if (found == null) {
+            found = Class.forName(className);
+            classes.put(className, found);
+        }
+        return found;
+    }
+
+    /**
+     * Gets the factory for a constructor.
+     * @param objClass the class of the GameObjects to be created
+     * @param paramTypes the parameter types of the constructor
+     * @return the factory
+     */
+    static GameObjectFactory forSignature(Class<?> objClass, Class<?>[] paramTypes) throws NoSuchMethodException, IllegalAccessException {
+        StringBuilder signature = new StringBuilder(objClass.getName());
+        for (Class<?> paramType : paramTypes) {
+            signature.append(',').append(paramType.getName());
+        }
+        try {
+            return factories.computeIfAbsent(signature.toString(), key -> newFactory(objClass, paramTypes));
+        } catch (UndeclaredThrowableException e) {
+            if (e.getCause() instanceof NoSuchMethodException) {
+                throw (NoSuchMethodException) e.getCause();
+            }
+            throw (IllegalAccessException) e.getCause();
+        }
+    }
+
+    // computeIfAbsent() cannot throw checked exceptions, so they are wrapped here and unwrapped by forSignature()
+    private static GameObjectFactory newFactory(Class<?> objClass, Class<?>[] paramTypes) {
+        try {
+            return new GameObjectFactory(objClass, paramTypes);
+        } catch (NoSuchMethodException | IllegalAccessException e) {
+            throw new UndeclaredThrowableException(e);
+        }
+    }
+
+    private static GameObjectFactory getFactory(Class<?> objClass, JSONArray parameters) throws ClassNotFoundException, NoSuchMethodException, IllegalAccessException {
+        StringBuilder signature = new StringBuilder(objClass.getName());
+        for (Object param : parameters) {
+            signature.append(',').append((String) ((JSONArray) param).get(0));
+        }
+        // saved parameter types are class names, so this is the key that forSignature() caches the factory under
+        GameObjectFactory factory = factories.get(signature.toString());
+        if (factory == null) {
+            Class<?>[] paramTypes = new Class<?>[parameters.size()];
+            for (int index = 0; index < parameters.size(); index++) {
+                paramTypes[index] = forName((String) ((JSONArray) parameters.get(index)).get(0));
+            }
+            factory = forSignature(objClass, paramTypes);
+        }
+        return factory;
+    }
+
+    static Function<String, Object> getParser(Class<?> type) throws NoSuchMethodException, IllegalAccessException {
+        Function<String, Object> parser = parsers.get(type);
+        if (parser == null) {
+            MethodHandle valueOf = MethodHandles.publicLookup()
+                    .findStatic(type, "valueOf", MethodType.methodType(type, String.class))
+                    .asType(MethodType.methodType(Object.class, String.class));
+            parser = value -> {
+                try {
+                    return valueOf.invokeExact(value);
+                } catch (Throwable e) {
+                    throw new RuntimeException(e);
+                }
+            };
+            parsers.put(type, parser);
+        }
+        return parser;
+    }
+
+    private GameObject newInstance(JSONArray parameters) throws InvocationTargetException {
+        Object[] params = new Object[parameters.size()];
+        for (int index = 0; index < params.length; index++) {
+            JSONArray param = (JSONArray) parameters.get(index);
+            Object value = param.get(1);
+            if (STRING_TYPE.equals(param.get(0))) {
+                params[index] = value;
+            }
+            else if (value instanceof Long) {
+                params[index] = Double.valueOf((Long) value);
+            }
+            else {
+                params[index] = paramParsers.get(index).apply((String) value);
+            }
+        }
+        return newInstance(params);
+    }
+
+    /**
+     * Creates a GameObject from parameter values that have already been decoded.
+     * @param params the parameter values, in the order of the constructor's parameters
+     * @return the GameObject
+     */
+    GameObject newInstance(Object[] params) throws InvocationTargetException {
+        Object gameObject;
+        try {
+            gameObject = constructor.invokeExact(params);
+        } catch (Throwable e) {
+            throw new InvocationTargetException(e);
+        }
+        return (GameObject) gameObject;
+    }
+}
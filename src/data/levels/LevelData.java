@@ -6,16 +6,22 @@ import builder.bank.BankModel;
 import builder.bank.view.BankView;
 import builder.stage.TilePaneDimensions;
 import data.ErrorLogger;
-import data.PrettyPrint;
+import data.PrettyPrintWriter;
 import data.ReadSaveException;
 import engine.gameobject.GameObject;
 import org.json.simple.JSONArray;
 import org.json.simple.JSONObject;
 import org.json.simple.parser.JSONParser;
 
+import java.io.BufferedOutputStream;
+import java.io.BufferedWriter;
+import java.io.FileOutputStream;
 import java.io.FileReader;
 import java.io.FileWriter;
 import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Writer;
+import java.nio.file.Paths;
 import java.lang.reflect.InvocationTargetException;
 import java.util.*;
 
@@ -30,16 +36,38 @@ public class LevelData {
     JSONObject levels;
     JSONObject banks;
     JSONObject dimensions;
+    BinaryLevelFormat binaryLevels;
 
     private static final String saveLevelLoc = "resources/data/saveLevels.json";
     private static final String levelLoc = "resources/data/levels.json";
+    private static final String levelArchiveLoc = "resources/data/levels.bin";
     private static final String bankLoc = "resources/data/banks.json";
     private static final String dimensionsLoc = "resources/data/dimensions.json";
 
+    /**
+     * Reads in the data for the game's levels.
+     */
     public LevelData() {
-        levels = jsonMaker(levelLoc);
-        banks = jsonMaker(bankLoc);
-        dimensions = jsonMaker(dimensionsLoc);
+        this(levelLoc, bankLoc, dimensionsLoc);
+    }
+
+    /**
+     * Reads in the data for levels from files other than the game's own, such as generated levels.
+     * @param levelFile the path to the file containing the levels' GameObjects, which is read in the binary level format
+     *                  if it ends with BinaryLevelFormat.FILE_EXTENSION and as JSON otherwise
+     * @param bankFile the path to the file containing the levels' banks
+     * @param dimensionsFile the path to the file containing the levels' dimensions
+     */
+    public LevelData(String levelFile, String bankFile, String dimensionsFile) {
+        if (levelFile.endsWith(BinaryLevelFormat.FILE_EXTENSION)) {
+            binaryLevels = binaryMaker(levelFile);
+            levels = new JSONObject();
+        }
+        else {
+            levels = jsonMaker(levelFile);
+        }
+        banks = jsonMaker(bankFile);
+        dimensions = jsonMaker(dimensionsFile);
     }
 
     private JSONObject jsonMaker(String fileLoc) {
@@ -53,16 +81,67 @@ public class LevelData {
         }
     }
 
+    private BinaryLevelFormat binaryMaker(String fileLoc) {
+        try {
+            return BinaryLevelFormat.map(Paths.get(fileLoc));
+        } catch (IOException e) {
+            ErrorLogger.log(e);
+            return null;
+        }
+    }
+
+    /**
+     * Writes every level to the game's binary level archive, levels.bin, which can be read in place of levels.json by
+     * passing its path to LevelData(String, String, String).
+     */
+    public void exportBinary() {
+        exportBinary(levelArchiveLoc);
+    }
+
+    /**
+     * Writes every level in the binary level format, so that levels designed in JSON can be loaded without parsing it.
+     * @param fileLoc the path to the binary level file
+     */
+    public void exportBinary(String fileLoc) {
+        Map<String, List<GameObject>> allLevels = new LinkedHashMap<>();
+        for (String key : levelKeys()) {
+            allLevels.put(key, loadHelper(key));
+        }
+        try (OutputStream out = new BufferedOutputStream(new FileOutputStream(fileLoc))) {
+            BinaryLevelFormat.write(allLevels, out);
+        } catch (IOException e) {
+            ErrorLogger.log(e);
+        }
+    }
+
     /**
      * Reads in the bank for a builder stage.
      * @param level the level number
      * @return the BankController
      */
     public BankController getBank(int level) throws ReadSaveException, ClassNotFoundException, InvocationTargetException, NoSuchMethodException, InstantiationException, IllegalAccessException {
-        if (!containsKey(banks, Integer.toString(level))) throw new ReadSaveException("read", bankLoc);
-        JSONObject levelBank = (JSONObject) banks.get(Integer.toString(level));
+        return new BankController(getBankModel(level), getBankView(level));
+    }
+
+    /**
+     * Reads in the items and money for the bank of a builder stage. Unlike getBank(), this does not create any of the
+     * bank's frontend, so it can be called from any thread.
+     * @param level the level number
+     * @return the BankModel
+     */
+    public BankModel getBankModel(int level) throws ReadSaveException, ClassNotFoundException, InvocationTargetException, NoSuchMethodException, InstantiationException, IllegalAccessException {
+        JSONObject levelBank = getLevelBank(level);
         int moneyAvailable = Math.toIntExact((Long) levelBank.get("moneyAvailable"));
-        return new BankController(new BankModel(getBankItems(levelBank), moneyAvailable), getBankView(levelBank));
+        return new BankModel(getBankItems(levelBank), moneyAvailable);
+    }
+
+    /**
+     * Creates the frontend for the bank of a builder stage.
+     * @param level the level number
+     * @return the BankView
+     */
+    public BankView getBankView(int level) throws ReadSaveException {
+        return createBankView(getLevelBank(level));
     }
 
     /**
@@ -93,9 +172,19 @@ public class LevelData {
         return dimensionsObject;
     }
 
+    /**
+     * Reads in the name of the renderer chosen for a level, if one has been chosen.
+     * @param level the level number
+     * @return the name of the renderer, or null if the level's dimensions do not give one
+     */
+    public String getRenderer(int level) {
+        if (!containsKey(dimensions, Integer.toString(level))) return null;
+        return (String) ((JSONObject) dimensions.get(Integer.toString(level))).get("renderer");
+    }
+
     public Integer levelNumber() {
         Integer count = 0;
-        for (Object keyObj : levels.keySet()) {
+        for (Object keyObj : levelKeys()) {
             if (!keyObj.equals("temp")) count++;
         }
         return count;
@@ -111,6 +200,10 @@ public class LevelData {
 
     private void saveHelper(List<GameObject> list, String target) {
         JSONObject temp = (JSONObject) levels.get(target);
+        if (temp == null) {
+            temp = new JSONObject();
+            levels.put(target, temp);
+        }
         temp.clear();
         for (GameObject object : list) {
             addObj(object, temp);
@@ -140,12 +233,23 @@ public class LevelData {
 
     public Integer getNumLevels() {
         Integer count = 0;
-        for (Object objKey : levels.keySet()) {
+        for (Object objKey : levelKeys()) {
             if (!objKey.equals("temp")) count ++;
         }
         return count;
     }
 
+    private Set<String> levelKeys() {
+        Set<String> keys = new LinkedHashSet<>();
+        if (binaryLevels != null) {
+            keys.addAll(binaryLevels.getLevelNames());
+        }
+        for (Object keyObj : levels.keySet()) {
+            keys.add((String) keyObj);
+        }
+        return keys;
+    }
+
     public List<GameObject> getTempSave() {
         return loadHelper("temp");
     }
@@ -155,6 +259,13 @@ public class LevelData {
     }
 
     private List<GameObject> loadHelper(String target) {
+        if (binaryLevels != null && binaryLevels.containsLevel(target) && !levels.containsKey(target)) {
+            List<GameObject> levelObjects = binaryLevels.createLevel(target);
+            for (GameObject gameObject : levelObjects) {
+                gameObject.resolveKind();
+            }
+            return levelObjects;
+        }
         List<GameObject> levelObjects = new ArrayList<>();
         if (!levels.containsKey(target)) {
             ErrorLogger.log(new ReadSaveException("read", levelLoc));
@@ -164,7 +275,7 @@ public class LevelData {
             String className = (String) key;
             Class objClass;
             try {
-                objClass = Class.forName(className);
+                objClass = GameObjectFactory.forName(className);
             } catch (ClassNotFoundException e) {
                 ErrorLogger.log(e);
                 continue;
@@ -182,38 +293,9 @@ public class LevelData {
     }
 
     private GameObject makeObject(Class objClass, JSONArray parameters) throws ClassNotFoundException, NoSuchMethodException, IllegalAccessException, InvocationTargetException, InstantiationException {
-        Class[] classes = new Class[parameters.size()];
-        Object[] params = new Object[parameters.size()];
-        for (int index = 0; index < parameters.size(); index++) {
-            JSONArray param = (JSONArray) parameters.get(index);
-            String paramType = (String) param.get(0);
-            Class thisClass = Class.forName(paramType);
-            classes[index] = thisClass;
-            if (paramType.equals("java.lang.String")) {
-                params[index] = (String) param.get(1);
-            }
-            else if (param.get(1).getClass().equals(Long.class)) {
-                params[index] = Double.valueOf((Long) param.get(1));
-            }
-            else {
-                params[index] = parse(thisClass, (String) param.get(1));
-            }
-        }
-        try {
-            return (GameObject) objClass.getDeclaredConstructor(classes).newInstance(params);
-        }catch (NoSuchMethodException e) {
-            throw new NoSuchMethodException();
-        }
-
-    }
-
-    private static <T> T parse(Class<T> type, String value) {
-        try {
-            return (T)type.getDeclaredMethod("valueOf", String.class).invoke(null, value);
-        }
-        catch(Exception e) {
-            throw new RuntimeException(e);
-        }
+        GameObject gameObject = GameObjectFactory.create(objClass, parameters);
+        gameObject.resolveKind();
+        return gameObject;
     }
 
     /**
@@ -221,10 +303,8 @@ public class LevelData {
      * @throws ReadSaveException - thrown if there is a problem writing to the user file
      */
     private void write(String fileLoc, JSONObject jsonObject) {
-        try (FileWriter file = new FileWriter(fileLoc)) {
-            PrettyPrint pretty = new PrettyPrint(jsonObject.toString());
-            file.write(pretty.getString());
-            file.flush();
+        try (Writer file = new PrettyPrintWriter(new BufferedWriter(new FileWriter(fileLoc)))) {
+            jsonObject.writeJSONString(file);
         } catch (IOException e) {
             ErrorLogger.log(e);
         }
@@ -241,7 +321,7 @@ public class LevelData {
         JSONObject levelBankItems = (JSONObject) levelBank.get("items");
         LinkedHashMap<BankItem, Integer> bankItems = new LinkedHashMap<>();
         for (Object keyObj : levelBankItems.keySet()) {
-            Class objClass = Class.forName((String) keyObj);
+            Class objClass = GameObjectFactory.forName((String) keyObj);
             JSONObject type = (JSONObject) levelBankItems.get((String) keyObj);
             GameObject gameObj = makeObject(objClass, (JSONArray) type.get("ctor"));
             bankItems.put(new BankItem(gameObj, Math.toIntExact((Long) type.get("cost"))),
@@ -250,7 +330,12 @@ public class LevelData {
         return bankItems;
     }
 
-    private BankView getBankView(JSONObject levelBank) {
+    private JSONObject getLevelBank(int level) throws ReadSaveException {
+        if (!containsKey(banks, Integer.toString(level))) throw new ReadSaveException("read", bankLoc);
+        return (JSONObject) banks.get(Integer.toString(level));
+    }
+
+    private BankView createBankView(JSONObject levelBank) {
         double width = Math.toIntExact((Long) levelBank.get("width"));
         double height = Math.toIntExact((Long) levelBank.get("height"));
         return new BankView(width, height);
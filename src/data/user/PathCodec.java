@@ -0,0 +1,116 @@
+package data.user;
+
+import java.io.ByteArrayOutputStream;
+import java.util.AbstractList;
+import java.util.Base64;
+import java.util.List;
+
+/**
+ * This class encodes the paths that players took through levels compactly. A path is a sequence of points stored as
+ * (x, y) pairs of tile coordinates, and consecutive points are close together, so each coordinate is rounded to
+ * 1 / SCALE of a tile and stored as its difference from the same coordinate of the previous point. The differences are
+ * small, so they are written as variable-length integers, most of which take a single byte, and the bytes are stored as
+ * a Base64 string so that they can be saved in the user file.
+ */
+public final class PathCodec {
+
+    public static final double SCALE = 100;
+    private static final int DIMENSIONS = 2;
+
+    private PathCodec() {
+    }
+
+    /**
+     * @param path - the path, as (x, y) pairs
+     * @return - the encoded path
+     */
+    public static String encode(double[] path) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(path.length + 1);
+        writeVarInt(bytes, path.length);
+        int[] previous = new int[DIMENSIONS];
+        for (int index = 0; index < path.length; index++) {
+            int value = (int) Math.round(path[index] * SCALE);
+            int delta = value - previous[index % DIMENSIONS];
+            writeVarInt(bytes, (delta << 1) ^ (delta >> 31));
+            previous[index % DIMENSIONS] = value;
+        }
+        return Base64.getEncoder().encodeToString(bytes.toByteArray());
+    }
+
+    /**
+     * @param encoded - a path encoded by encode()
+     * @return - the path, as (x, y) pairs
+     * @throws IllegalArgumentException - thrown if the string is not an encoded path
+     */
+    public static double[] decode(String encoded) {
+        byte[] bytes = Base64.getDecoder().decode(encoded);
+        int[] position = new int[1];
+        double[] path = new double[readVarInt(bytes, position)];
+        int[] previous = new int[DIMENSIONS];
+        for (int index = 0; index < path.length; index++) {
+            int zigzag = readVarInt(bytes, position);
+            int value = previous[index % DIMENSIONS] + ((zigzag >>> 1) ^ -(zigzag & 1));
+            path[index] = value / SCALE;
+            previous[index % DIMENSIONS] = value;
+        }
+        return path;
+    }
+
+    /**
+     * Reduces a path to at most a number of points by keeping evenly spaced points, always including the first and last
+     * @param path - the path, as (x, y) pairs
+     * @param maxPoints - the most points to keep; at least 2
+     * @return - the path, or a shorter copy of it if it has more than maxPoints points
+     */
+    public static double[] downsample(double[] path, int maxPoints) {
+        int points = path.length / DIMENSIONS;
+        if (points <= maxPoints || maxPoints < 2) return path;
+        double[] sampled = new double[maxPoints * DIMENSIONS];
+        for (int point = 0; point < maxPoints; point++) {
+            int source = (int) ((long) point * (points - 1) / (maxPoints - 1));
+            System.arraycopy(path, source * DIMENSIONS, sampled, point * DIMENSIONS, DIMENSIONS);
+        }
+        return sampled;
+    }
+
+    /**
+     * @param path - a path, as (x, y) pairs, that will not be changed
+     * @return - an unmodifiable list view of the path, which does not copy it
+     */
+    public static List<Double> asList(double[] path) {
+        return new AbstractList<>() {
+            @Override
+            public Double get(int index) {
+                return path[index];
+            }
+
+            @Override
+            public int size() {
+                return path.length;
+            }
+        };
+    }
+
+    private static void writeVarInt(ByteArrayOutputStream bytes, int value) {
+        while ((value & ~0x7F) != 0) {
+            bytes.write((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        bytes.write(value);
+    }
+
+    private static int readVarInt(byte[] bytes, int[] position) {
+        int value = 0;
+        for (int shift = 0; shift < Integer.SIZE; shift += 7) {
+            if (position[0] >= bytes.length) {
+                throw new IllegalArgumentException("Path ends unexpectedly");
+            }
+            int b = bytes[position[0]++];
+            value |= (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IllegalArgumentException("Malformed path");
+    }
+}
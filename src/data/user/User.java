@@ -6,8 +6,6 @@ import data.ErrorLogger;
 import data.ReadSaveException;
 import org.json.simple.JSONArray;
 import org.json.simple.JSONObject;
-import org.json.simple.parser.JSONParser;
-import java.io.FileReader;
 import java.util.*;
 
 /**
@@ -16,12 +14,11 @@ import java.util.*;
  */
 public class User {
 
-    private static final String filePath = "resources/data/users.json";
-
     private boolean warned = false;
 
     private JSONObject json;
     private SaveUser save = new SaveUser();
+    private UserRepository repository = UserRepository.getInstance();
     private UserHolder original;
     private Integer type;
     private String id;
@@ -30,7 +27,7 @@ public class User {
     private List<Integer> birthday = new ArrayList<>();
     private int score;
     private Map<Integer, Integer> levelScores = new HashMap<>();
-    private Map<Integer, List<Double>> levelPaths = new HashMap<>();
+    private Map<Integer, double[]> levelPaths = new HashMap<>();
 
     /**
      * Constructor for existing account
@@ -44,19 +41,10 @@ public class User {
     public User(String id, String password) throws InvalidLoginException {
         this.id = id;
         this.password = password;
-        JSONParser jsonParser = new JSONParser();
-        JSONObject users = new JSONObject();
-        try {
-            FileReader reader = new FileReader(filePath);
-            users = (JSONObject)jsonParser.parse(reader);
-        }
-        catch (Exception e) {
-            ErrorLogger.log(new ReadSaveException("read", filePath));
-        }
-        if (!users.keySet().contains(id)) {
+        if (!repository.contains(id)) {
             ErrorLogger.log(new InvalidLoginException(id));
         }
-        JSONObject user = (JSONObject) users.get(id);
+        JSONObject user = repository.get(id);
 
         if (user.get("password").equals(password)) unlockUser(user);
         else {
@@ -93,16 +81,7 @@ public class User {
      * @throws DuplicateUsernameException - thrown if the desired player id already exists
      */
     public User(String id, String password, String avatarImg, int month, int day, int year) throws DuplicateUsernameException {
-        JSONObject users = new JSONObject();
-        JSONParser jsonParser = new JSONParser();
-        try {
-            FileReader reader = new FileReader(filePath);
-            users = (JSONObject)jsonParser.parse(reader);
-        }
-        catch (Exception e) {
-            ErrorLogger.log(new ReadSaveException("read", filePath));
-        }
-        if (users.keySet().contains(id)) throw new DuplicateUsernameException(id);
+        if (repository.contains(id)) throw new DuplicateUsernameException(id);
         this.id = id;
         this.password = password;
         this.avatarImg = avatarImg;
@@ -133,9 +112,10 @@ public class User {
         levelsJSON.put("1", 0);
         json.put("levels", levelsJSON);
         JSONObject pathsJSON = new JSONObject();
-        pathsJSON.put("1", new ArrayList<>(Arrays.asList(0.0, 0.0)));
+        double[] path = new double[] {0.0, 0.0};
+        pathsJSON.put("1", PathCodec.encode(path));
         json.put("paths", pathsJSON);
-        levelPaths.put(1, new ArrayList<>(Arrays.asList(0.0, 0.0)));
+        levelPaths.put(1, path);
         original = new UserHolder(json, id, password, avatarImg, birthday, score, levelScores, levelPaths);
         saveHelper();
     }
@@ -160,16 +140,26 @@ public class User {
         type = Math.toIntExact((Long)json.get("type"));
         JSONObject pathsJSON = (JSONObject) data.get("paths");
         for (Object keyObj : pathsJSON.keySet()) {
-            List<Double> path = new ArrayList<>();
-            JSONArray pathJSON = (JSONArray) pathsJSON.get(keyObj);
-            for (Object pointObj : pathJSON) {
-                path.add(Optional.of((double)pointObj).orElse(0.0));
-            }
-            levelPaths.put(Optional.of(Integer.parseInt((String) keyObj)).orElse(0), path);
+            levelPaths.put(Optional.of(Integer.parseInt((String) keyObj)).orElse(0), readPath(pathsJSON.get(keyObj)));
         }
         original = new UserHolder(json, id, password, avatarImg, birthday, score, levelScores, levelPaths);
     }
 
+    /**
+     * Reads a path from the user file, where it is either encoded by PathCodec or, in older files, a list of points
+     * @param pathJSON - the saved path
+     * @return - the path
+     */
+    private double[] readPath(Object pathJSON) {
+        if (pathJSON instanceof String) return PathCodec.decode((String) pathJSON);
+        JSONArray points = (JSONArray) pathJSON;
+        double[] path = new double[points.size()];
+        for (int index = 0; index < path.length; index++) {
+            path[index] = Optional.ofNullable((Number) points.get(index)).map(Number::doubleValue).orElse(0.0);
+        }
+        return path;
+    }
+
     /**
      * Passes the JSONObject that is keeping track of all of the changes to instance variables to the SaveUser class
      * where it can be saved
@@ -205,7 +195,7 @@ public class User {
     private void scoreHelper(int newScore) {
         score = Math.max(newScore, 0);
         json.replace("score", score);
-        saveHelper();
+        repository.updateScore(id, score);
     }
 
     /**
@@ -216,7 +206,7 @@ public class User {
     public void changeAvatar(String avatarImg) {
         this.avatarImg = avatarImg;
         json.replace("avatar", avatarImg);
-        saveHelper();
+        repository.updateAvatar(id, avatarImg);
     }
 
     /**
@@ -237,7 +227,7 @@ public class User {
             levelScores.put(level, newScore);
             levelsJSON.put(level, newScore);
         }
-        saveHelper();
+        repository.updateLevelScore(id, level, levelScores.get(level));
     }
 
     /**
@@ -247,18 +237,28 @@ public class User {
      * @throws ReadSaveException - thrown if there is a problem saving or reading from the user file
      */
     public void updateLevelPath(int level, List<Double> path) {
-        if (path == null || level < 1) return;
-        JSONObject pathsJSON = (JSONObject) json.get("paths");
-        if (levelPaths.containsKey(level)) {
-            if (levelPaths.get(level).size() > path.size()) {
-                levelPaths.put(level, path);
-                pathsJSON.put(level, path);
-            }
-        } else {
-            levelPaths.put(level, path);
-            pathsJSON.put(level, path);
+        if (path == null) return;
+        double[] points = new double[path.size()];
+        for (int index = 0; index < points.length; index++) {
+            points[index] = path.get(index);
         }
-        saveHelper();
+        updateLevelPath(level, points);
+    }
+
+    /**
+     * Adds a new path at a specific level for replay later - probably the high score path
+     * @param level - the level the path occured at
+     * @param path - the (x, y) pairs of points indicating the path the player took; PathCodec.downsample() can shorten
+     *             long paths
+     */
+    public void updateLevelPath(int level, double[] path) {
+        if (path == null || level < 1) return;
+        if (levelPaths.containsKey(level) && levelPaths.get(level).length <= path.length) return;
+        path = path.clone();
+        String encoded = PathCodec.encode(path);
+        levelPaths.put(level, path);
+        ((JSONObject) json.get("paths")).put(Integer.toString(level), encoded);
+        repository.updateLevelPath(id, level, encoded);
     }
 
     public void setType(Integer newType) {
@@ -351,7 +351,7 @@ public class User {
     public Map<Integer, List<Double>> getPaths() {
         Map<Integer, List<Double>> returnPaths = new HashMap<>();
         for (int key : levelPaths.keySet()) {
-            returnPaths.put(key, ImmutableList.copyOf(levelPaths.get(key)));
+            returnPaths.put(key, PathCodec.asList(levelPaths.get(key)));
         }
         return ImmutableMap.copyOf(returnPaths);
     }
@@ -361,7 +361,7 @@ public class User {
      * @return - the path for the level or an immutable list with 0.0, 0.0 as points if the level hasnt been attempted yet
      */
     public List<Double> getPath(int level) {
-        if (levelPaths.containsKey(level)) return ImmutableList.copyOf(levelPaths.get(level));
+        if (levelPaths.containsKey(level)) return PathCodec.asList(levelPaths.get(level));
         return ImmutableList.copyOf(Arrays.asList(0.0, 0.0));
     }
 
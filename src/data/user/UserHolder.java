@@ -1,9 +1,7 @@
 package data.user;
 
-import org.json.simple.JSONArray;
 import org.json.simple.JSONObject;
 
-import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -17,10 +15,10 @@ public class UserHolder {
     private List<Integer> birthday;
     private int score;
     private Map<Integer, Integer> levelScores;
-    private Map<Integer, List<Double>> levelPaths;
+    private Map<Integer, double[]> levelPaths;
 
     public UserHolder(JSONObject json, String id, String password, String avatarImg, List<Integer> birthday, int score,
-                      Map<Integer, Integer> levelScores, Map<Integer, List<Double>> levelPaths) {
+                      Map<Integer, Integer> levelScores, Map<Integer, double[]> levelPaths) {
         this.json = (JSONObject) json.clone();
         this.id = id;
         this.password = password;
@@ -40,9 +38,7 @@ public class UserHolder {
         json.replace("birthday", jsonBD);
         JSONObject paths = new JSONObject();
         for (int key : levelPaths.keySet()) {
-            JSONArray jPath = new JSONArray();
-            jPath.addAll(levelPaths.get(key));
-            paths.put(Integer.toString(key), jPath);
+            paths.put(Integer.toString(key), PathCodec.encode(levelPaths.get(key)));
         }
         json.replace("paths", paths);
         JSONObject levels = (JSONObject) json.get("levels");
@@ -77,7 +73,7 @@ public class UserHolder {
         return levelScores;
     }
 
-    public Map<Integer, List<Double>> getLevelPaths() {
+    public Map<Integer, double[]> getLevelPaths() {
         return levelPaths;
     }
 }
@@ -0,0 +1,171 @@
+package data.user;
+
+import data.ErrorLogger;
+import data.PrettyPrintWriter;
+import data.ReadSaveException;
+import org.json.simple.JSONObject;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * This class stores the User profiles in a UserRepository as a snapshot, the user file, and a journal of the changes
+ * made since the snapshot was written. Each change is appended to the journal as a single line of JSON, so saving a
+ * change costs the same however many profiles there are. Once COMPACT_THRESHOLD changes have been journalled, the
+ * repository's profiles are written as a new snapshot and the journal is emptied.
+ *
+ * Appending and compacting both happen in order on a background thread, so the game never waits on the files. The
+ * snapshot is replaced by writing a temporary file and moving it into place, so it is never left partly written, and
+ * the journal is compacted when the program exits.
+ *
+ * A change that is made while a snapshot is being taken may be both in the snapshot and in the new journal, so changes
+ * must give the resulting values (e.g. the new score rather than the change in score) so that replaying them again has
+ * no effect.
+ */
+public class UserPersistence {
+
+    public static final int COMPACT_THRESHOLD = 1000;
+    private static final String journalSuffix = ".journal";
+    private static final String tempSuffix = ".tmp";
+
+    private final Path file;
+    private final Path journal;
+    private final Supplier<JSONObject> source;
+    private final ExecutorService executor;
+    private Writer journalWriter;
+    private int journalled;
+    private boolean compactionQueued;
+
+    /**
+     * Creates the persistence for a user file, whose journal is kept next to it
+     * @param fileLoc - the path to the user file
+     * @param source - gives every profile to be written to the snapshot, by id; the profiles must not be changed while
+     *               they are written
+     */
+    public UserPersistence(String fileLoc, Supplier<JSONObject> source) {
+        file = Paths.get(fileLoc);
+        journal = Paths.get(fileLoc + journalSuffix);
+        this.source = source;
+        executor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "UserPersistence");
+            thread.setDaemon(true);
+            return thread;
+        });
+        Runtime.getRuntime().addShutdownHook(new Thread(this::flush));
+    }
+
+    /**
+     * Reads every change in the journal, in the order they were made. If there are any, the journal is compacted in
+     * the background.
+     * @param change - applies a change, given as a line of JSON, to the profiles read from the snapshot
+     */
+    public void replay(Consumer<String> change) {
+        if (!Files.exists(journal)) return;
+        int replayed = 0;
+        try (BufferedReader reader = Files.newBufferedReader(journal)) {
+            for (String line = reader.readLine(); line != null; line = reader.readLine()) {
+                if (!line.isBlank()) {
+                    change.accept(line);
+                    replayed++;
+                }
+            }
+        } catch (IOException e) {
+            ErrorLogger.log(new ReadSaveException("read", journal.toString()));
+        }
+        if (replayed > 0) {
+            synchronized (this) {
+                journalled += replayed;
+            }
+            queueCompaction();
+        }
+    }
+
+    /**
+     * Appends a change to the journal in the background
+     * @param change - the change, as a single line of JSON
+     */
+    public void append(String change) {
+        executor.execute(() -> writeChange(change));
+    }
+
+    /**
+     * Writes every journalled change and then compacts the journal, waiting until both are done
+     */
+    public void flush() {
+        try {
+            executor.submit(this::compact).get();
+        } catch (InterruptedException | ExecutionException e) {
+            ErrorLogger.log(e);
+        }
+    }
+
+    private void queueCompaction() {
+        synchronized (this) {
+            if (compactionQueued) return;
+            compactionQueued = true;
+        }
+        executor.execute(this::compact);
+    }
+
+    private void writeChange(String change) {
+        try {
+            if (journalWriter == null) {
+                journalWriter = Files.newBufferedWriter(journal, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+            }
+            journalWriter.write(change);
+            journalWriter.write(System.lineSeparator());
+            journalWriter.flush();
+        } catch (IOException e) {
+            ErrorLogger.log(new ReadSaveException("Save", journal.toString()));
+        }
+        // counted once written, so that a compaction queued before the change was written cannot uncount it
+        boolean compact;
+        synchronized (this) {
+            journalled++;
+            compact = journalled >= COMPACT_THRESHOLD;
+        }
+        if (compact) queueCompaction();
+    }
+
+    private void compact() {
+        synchronized (this) {
+            compactionQueued = false;
+            if (journalled == 0) return;
+            journalled = 0;
+        }
+        try {
+            writeSnapshot(source.get());
+            if (journalWriter != null) {
+                journalWriter.close();
+                journalWriter = null;
+            }
+            Files.deleteIfExists(journal);
+        } catch (IOException e) {
+            ErrorLogger.log(new ReadSaveException("Save", file.toString()));
+        }
+    }
+
+    private void writeSnapshot(JSONObject users) throws IOException {
+        Path temp = file.resolveSibling(file.getFileName() + tempSuffix);
+        try (Writer writer = new PrettyPrintWriter(Files.newBufferedWriter(temp))) {
+            users.writeJSONString(writer);
+        }
+        try {
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+}
@@ -0,0 +1,248 @@
+package data.user;
+
+import data.ErrorLogger;
+import data.ReadSaveException;
+import org.json.simple.JSONArray;
+import org.json.simple.JSONObject;
+import org.json.simple.parser.JSONParser;
+import org.json.simple.parser.ParseException;
+
+import java.io.Reader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * This class holds every User profile in memory, indexed by id, and is shared by the whole program. The user file and
+ * its journal are read once, the first time a profile is needed; after that, logging in, signing up and saving only
+ * look up or change a single profile, and each change is journalled in the background by UserPersistence.
+ *
+ * Changes to a single value of a profile (e.g. its score) are journalled on their own, so that they do not require the
+ * whole profile to be written. They give the value itself rather than how it changed, so replaying them is idempotent.
+ *
+ * Profiles are copied into and out of the repository, so a User can change its own JSONObject freely without affecting
+ * other Users with the same id, and the stored profiles can be written on another thread without being changed while
+ * they are written.
+ */
+public class UserRepository {
+
+    private static final String fileLoc = "resources/data/users.json";
+    private static final String OP = "op";
+    private static final String PUT = "put";
+    private static final String DELETE = "delete";
+    private static final String SET = "set";
+    private static UserRepository instance;
+
+    private final Path file;
+    private final UserPersistence persistence;
+    private Map<String, JSONObject> users;
+
+    /**
+     * Creates the repository for a user file. The game's user file is shared through getInstance().
+     * @param fileLoc - the path to the user file
+     */
+    public UserRepository(String fileLoc) {
+        file = Paths.get(fileLoc);
+        persistence = new UserPersistence(fileLoc, this::snapshot);
+    }
+
+    /**
+     * @return - the repository for the game's user file
+     */
+    public static synchronized UserRepository getInstance() {
+        if (instance == null) {
+            instance = new UserRepository(fileLoc);
+        }
+        return instance;
+    }
+
+    /**
+     * @param id - the id of an account
+     * @return - whether there is a profile with the id
+     */
+    public synchronized boolean contains(String id) {
+        return getUsers().containsKey(id);
+    }
+
+    /**
+     * @param id - the id of an account
+     * @return - a copy of the profile with the id, or null if there is none
+     */
+    public synchronized JSONObject get(String id) {
+        JSONObject user = getUsers().get(id);
+        return user == null ? null : copy(user);
+    }
+
+    /**
+     * @return - the number of profiles
+     */
+    public synchronized int size() {
+        return getUsers().size();
+    }
+
+    /**
+     * Adds or replaces a profile. The profile is copied, so later changes to it must also be saved.
+     * @param user - the JSONObject of the user
+     */
+    public synchronized void save(JSONObject user) {
+        JSONObject change = new JSONObject();
+        change.put(OP, PUT);
+        change.put("user", user);
+        record(change);
+    }
+
+    /**
+     * Deletes a profile, doing nothing if there is no profile with the id
+     * @param id - the id of the account
+     */
+    public synchronized void delete(String id) {
+        if (!getUsers().containsKey(id)) return;
+        JSONObject change = new JSONObject();
+        change.put(OP, DELETE);
+        change.put("id", id);
+        record(change);
+    }
+
+    /**
+     * @param id - the id of the account
+     * @param score - the player's new score
+     */
+    public void updateScore(String id, int score) {
+        set(id, score, "score");
+    }
+
+    /**
+     * @param id - the id of the account
+     * @param avatarImg - the new filepath to the player's avatar
+     */
+    public void updateAvatar(String id, String avatarImg) {
+        set(id, avatarImg, "avatar");
+    }
+
+    /**
+     * @param id - the id of the account
+     * @param level - the level
+     * @param score - the player's new high score on the level
+     */
+    public void updateLevelScore(String id, int level, int score) {
+        set(id, score, "levels", Integer.toString(level));
+    }
+
+    /**
+     * @param id - the id of the account
+     * @param level - the level
+     * @param path - the player's new path on the level, encoded by PathCodec
+     */
+    public void updateLevelPath(String id, int level, String path) {
+        set(id, path, "paths", Integer.toString(level));
+    }
+
+    /**
+     * Writes every journalled change and compacts the journal into the user file now, rather than waiting for it to be
+     * done in the background
+     */
+    public void flush() {
+        persistence.flush();
+    }
+
+    /**
+     * Gives the profiles to be written to the user file. Stored profiles are never changed once they are stored; a
+     * change to a profile replaces it with a changed copy, so the profiles can be written while the repository changes.
+     */
+    private synchronized JSONObject snapshot() {
+        JSONObject snapshot = new JSONObject();
+        snapshot.putAll(getUsers());
+        return snapshot;
+    }
+
+    private synchronized void set(String id, Object value, String... path) {
+        if (!getUsers().containsKey(id)) return;
+        JSONObject change = new JSONObject();
+        change.put(OP, SET);
+        change.put("id", id);
+        JSONArray pathJSON = new JSONArray();
+        pathJSON.addAll(Arrays.asList(path));
+        change.put("path", pathJSON);
+        change.put("value", value);
+        record(change);
+    }
+
+    /**
+     * Applies a change to the profiles and journals it. The change is applied as it will be read back from the
+     * journal, so that the profiles in memory always match those that would be replayed.
+     */
+    private void record(JSONObject change) {
+        String line = change.toJSONString();
+        apply(getUsers(), line);
+        persistence.append(line);
+    }
+
+    private void apply(Map<String, JSONObject> users, String line) {
+        JSONObject change;
+        try {
+            change = (JSONObject) new JSONParser().parse(line);
+        } catch (ParseException | ClassCastException e) {
+            ErrorLogger.log(e);
+            return;
+        }
+        String op = (String) change.get(OP);
+        if (PUT.equals(op)) {
+            JSONObject user = (JSONObject) change.get("user");
+            users.put((String) user.get("id"), user);
+        }
+        else if (DELETE.equals(op)) {
+            users.remove(change.get("id"));
+        }
+        else if (SET.equals(op) && users.containsKey(change.get("id"))) {
+            JSONObject target = copy(users.get(change.get("id")));
+            users.put((String) change.get("id"), target);
+            JSONArray path = (JSONArray) change.get("path");
+            for (int index = 0; index < path.size() - 1; index++) {
+                if (!(target.get(path.get(index)) instanceof JSONObject)) {
+                    target.put(path.get(index), new JSONObject());
+                }
+                target = (JSONObject) target.get(path.get(index));
+            }
+            target.put(path.get(path.size() - 1), change.get("value"));
+        }
+    }
+
+    private Map<String, JSONObject> getUsers() {
+        if (users == null) {
+            Map<String, JSONObject> loaded = new HashMap<>();
+            JSONObject stored = readFile();
+            for (Object id : stored.keySet()) {
+                loaded.put((String) id, (JSONObject) stored.get(id));
+            }
+            persistence.replay(line -> apply(loaded, line));
+            users = loaded;
+        }
+        return users;
+    }
+
+    private JSONObject readFile() {
+        if (!Files.exists(file)) return new JSONObject();
+        try (Reader reader = Files.newBufferedReader(file)) {
+            return (JSONObject) new JSONParser().parse(reader);
+        } catch (Exception e) {
+            ErrorLogger.log(new ReadSaveException("read", file.toString()));
+            return new JSONObject();
+        }
+    }
+
+    /**
+     * Copies a profile through its JSON text, which also gives its values the same types as if it had been read from
+     * the user file (e.g. Long rather than Integer).
+     */
+    private JSONObject copy(JSONObject user) {
+        try {
+            return (JSONObject) new JSONParser().parse(user.toJSONString());
+        } catch (ParseException e) {
+            ErrorLogger.log(e);
+            return new JSONObject();
+        }
+    }
+}
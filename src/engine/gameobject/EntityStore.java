@@ -0,0 +1,233 @@
+package engine.gameobject;
+
+import engine.gameobject.opponent.Enemy;
+import engine.gameobject.platform.MovingPlatform;
+import engine.gameobject.player.Player;
+
+import java.util.Arrays;
+
+/**
+ * This class stores the positions, sizes, velocities and types of many GameObjects in parallel primitive arrays, one
+ * slot per object. A GameObject that has been added to a store becomes a thin handle to its slot: its getters and
+ * setters read and write the arrays rather than its own fields.
+ *
+ * Keeping this state in arrays lets passes over every object of a level (e.g. saving positions for interpolation or
+ * finding every enemy) run as tight loops over contiguous memory instead of walking a list of heap objects. Types are
+ * kept as bit flags so that a pass can select the objects it cares about without instanceof checks or virtual calls.
+ *
+ * Slots are kept contiguous: when an object is removed, the object in the last slot is moved into its place.
+ */
+public class EntityStore {
+
+    public static final int STATIONARY = 1;
+    public static final int MOVING_PLATFORM = 1 << 1;
+    public static final int ENEMY = 1 << 2;
+    public static final int PLAYER = 1 << 3;
+    public static final int OTHER = 1 << 4;
+    private static final int INITIAL_CAPACITY = 16;
+
+    double[] x;
+    double[] y;
+    double[] previousX;
+    double[] previousY;
+    double[] width;
+    double[] height;
+    double[] xSpeed;
+    double[] ySpeed;
+    private int[] types;
+    private GameObject[] objects;
+    private int size;
+
+    /**
+     * The constructor to create an empty EntityStore.
+     */
+    public EntityStore() {
+        this(INITIAL_CAPACITY);
+    }
+
+    /**
+     * The constructor to create an empty EntityStore with room for a number of objects.
+     * @param capacity the number of objects that can be added before the arrays must grow
+     */
+    public EntityStore(int capacity) {
+        allocate(Math.max(capacity, 1));
+    }
+
+    /**
+     * Gets the type flag of a GameObject.
+     * @param gameObject the GameObject
+     * @return exactly one of STATIONARY, MOVING_PLATFORM, ENEMY, PLAYER or OTHER
+     */
+    public static int typeOf(GameObject gameObject) {
+        if (gameObject instanceof Player) return PLAYER;
+        if (gameObject instanceof Enemy) return ENEMY;
+        if (gameObject instanceof MovingPlatform) return MOVING_PLATFORM;
+        if (gameObject.isStationary()) return STATIONARY;
+        return OTHER;
+    }
+
+    /**
+     * Adds a GameObject to this store, copying its state into a new slot. From then on, the GameObject's state is kept
+     * in this store until it is removed.
+     * @param gameObject the GameObject to be added
+     * @return the slot of the GameObject
+     */
+    public int add(GameObject gameObject) {
+        if (gameObject.getEntityStore() != null) {
+            throw new IllegalArgumentException("GameObject is already stored in an EntityStore");
+        }
+        if (size == objects.length) {
+            grow();
+        }
+        int slot = size++;
+        x[slot] = gameObject.getX();
+        y[slot] = gameObject.getY();
+        width[slot] = gameObject.getWidth();
+        height[slot] = gameObject.getHeight();
+        xSpeed[slot] = gameObject.getXSpeed();
+        ySpeed[slot] = gameObject.getYSpeed();
+        previousX[slot] = gameObject.getInterpolatedX(0);
+        previousY[slot] = gameObject.getInterpolatedY(0);
+        types[slot] = typeOf(gameObject);
+        objects[slot] = gameObject;
+        gameObject.attach(this, slot);
+        return slot;
+    }
+
+    /**
+     * Removes a GameObject from this store, copying its state back into the GameObject.
+     * @param gameObject the GameObject to be removed
+     * @return whether the GameObject was in this store
+     */
+    public boolean remove(GameObject gameObject) {
+        if (gameObject.getEntityStore() != this) {
+            return false;
+        }
+        int slot = gameObject.getSlot();
+        gameObject.detach();
+        int last = --size;
+        if (slot != last) {
+            moveSlot(last, slot);
+            objects[slot].attach(this, slot);
+        }
+        objects[last] = null;
+        return true;
+    }
+
+    /**
+     * Removes every GameObject from this store, copying their state back into them.
+     */
+    public void clear() {
+        for (int slot = size - 1; slot >= 0; slot--) {
+            objects[slot].detach();
+            objects[slot] = null;
+        }
+        size = 0;
+    }
+
+    /**
+     * Gets the number of GameObjects in this store; their slots are 0 to size() - 1.
+     * @return the number of GameObjects
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Gets the GameObject in a slot.
+     * @param slot the slot
+     * @return the GameObject
+     */
+    public GameObject getObject(int slot) {
+        return objects[slot];
+    }
+
+    /**
+     * Determines whether the GameObject in a slot is of any of a set of types.
+     * @param slot the slot
+     * @param typeMask the types, combined with |
+     * @return whether the GameObject is of one of the types
+     */
+    public boolean hasType(int slot, int typeMask) {
+        return (types[slot] & typeMask) != 0;
+    }
+
+    /**
+     * Gets the x position of the GameObject in a slot.
+     * @param slot the slot
+     * @return the x position
+     */
+    public double getX(int slot) {
+        return x[slot];
+    }
+
+    /**
+     * Gets the y position of the GameObject in a slot.
+     * @param slot the slot
+     * @return the y position
+     */
+    public double getY(int slot) {
+        return y[slot];
+    }
+
+    /**
+     * Records the current position of every GameObject in this store, for interpolation between simulation ticks.
+     */
+    public void savePreviousPositions() {
+        System.arraycopy(x, 0, previousX, 0, size);
+        System.arraycopy(y, 0, previousY, 0, size);
+    }
+
+    /**
+     * Determines whether the bounding box of the GameObject in a slot intersects a single tile box, with the same rules
+     * as GameObject.intersects().
+     * @param slot the slot
+     * @param otherX the x position of the box
+     * @param otherY the y position of the box
+     * @return whether they intersect
+     */
+    public boolean intersects(int slot, double otherX, double otherY) {
+        return otherX + GameObject.BOUNDS_WIDTH >= x[slot] && otherY + GameObject.BOUNDS_HEIGHT >= y[slot] &&
+                otherX <= x[slot] + GameObject.BOUNDS_WIDTH && otherY <= y[slot] + GameObject.BOUNDS_HEIGHT;
+    }
+
+    private void moveSlot(int from, int to) {
+        x[to] = x[from];
+        y[to] = y[from];
+        previousX[to] = previousX[from];
+        previousY[to] = previousY[from];
+        width[to] = width[from];
+        height[to] = height[from];
+        xSpeed[to] = xSpeed[from];
+        ySpeed[to] = ySpeed[from];
+        types[to] = types[from];
+        objects[to] = objects[from];
+    }
+
+    private void allocate(int capacity) {
+        x = new double[capacity];
+        y = new double[capacity];
+        previousX = new double[capacity];
+        previousY = new double[capacity];
+        width = new double[capacity];
+        height = new double[capacity];
+        xSpeed = new double[capacity];
+        ySpeed = new double[capacity];
+        types = new int[capacity];
+        objects = new GameObject[capacity];
+    }
+
+    private void grow() {
+        int capacity = objects.length * 2;
+        x = Arrays.copyOf(x, capacity);
+        y = Arrays.copyOf(y, capacity);
+        previousX = Arrays.copyOf(previousX, capacity);
+        previousY = Arrays.copyOf(previousY, capacity);
+        width = Arrays.copyOf(width, capacity);
+        height = Arrays.copyOf(height, capacity);
+        xSpeed = Arrays.copyOf(xSpeed, capacity);
+        ySpeed = Arrays.copyOf(ySpeed, capacity);
+        types = Arrays.copyOf(types, capacity);
+        objects = Arrays.copyOf(objects, capacity);
+    }
+}
@@ -4,6 +4,7 @@ import java.util.List;
 import java.util.Objects;
 
 import engine.general.Game;
+import engine.objectinteraction.ObjectKinds;
 
 /**
  * This is an abstract class that is used for the backend of all movable objects used in the game.
@@ -24,16 +25,23 @@ public abstract class GameObject {
     public static final int DOWN_OR_LEFT = -1;
     public static final int UP_OR_RIGHT = 1;
     public static final double GRAVITY = 40;
+    public static final double BOUNDS_WIDTH = 1;
+    public static final double BOUNDS_HEIGHT = 1;
 
-    private Double xPos;
-    private Double yPos;
-    private Double width;
-    private Double height;
+    private double xPos;
+    private double yPos;
+    private double width;
+    private double height;
     private boolean visible = false;
     private String imgPath;
+    private int kind = ObjectKinds.UNKNOWN;
+    private double previousX;
+    private double previousY;
 
     private double xSpeed;
     private double ySpeed;
+    private EntityStore store;
+    private int slot = -1;
 
     /**
      * The constructor to create a GameObject.
@@ -50,6 +58,7 @@ public abstract class GameObject {
         this.width = width;
         this.height = height;
         this.imgPath = imgPath;
+        savePreviousPosition();
     }
 
     /**
@@ -76,45 +85,62 @@ public abstract class GameObject {
      */
     public void setImgPath(String newPath) {
         imgPath = newPath;
+        kind = ObjectKinds.UNKNOWN;
+    }
+
+    /**
+     * Get the kind of this object, which identifies its image path as an integer
+     * @return the kind of this object
+     */
+    public int getKind() {
+        if (kind == ObjectKinds.UNKNOWN) {
+            resolveKind();
+        }
+        return kind;
+    }
+
+    /**
+     * Looks up the kind of this object ahead of time, so that it does not need to be looked up during game play
+     */
+    public void resolveKind() {
+        kind = ObjectKinds.of(imgPath);
     }
 
     /**
      * Set x position of the object
      * @param xPosition new x position of the object
      */
-    public void setX(Double xPosition) {
-        xPos = xPosition;
+    public void setX(double xPosition) {
+        if (store == null) xPos = xPosition;
+        else store.x[slot] = xPosition;
     }
 
     /**
      * Set y position of the object
      * @param yPosition new y position of the object
      */
-    public void setY(Double yPosition) {
-        yPos = yPosition;
+    public void setY(double yPosition) {
+        if (store == null) yPos = yPosition;
+        else store.y[slot] = yPosition;
     }
 
-    public void shiftX(Double shift) {
-        xPos += shift;
+    public void shiftX(double shift) {
+        setX(getX() + shift);
     }
 
-    public void shiftY(Double shift) {
-        yPos += shift;
+    public void shiftY(double shift) {
+        setY(getY() + shift);
     }
 
     /**
      * Get x position of the object
      * @return x position of the object
      */
-    public Double getX() {
-        return xPos;
-    }
-
-    public void setX(double x) {
-        this.xPos = x;
+    public double getX() {
+        return store == null ? xPos : store.x[slot];
     }
 
-    public Integer getXDirection() {
+    public int getXDirection() {
         return 1;
     }
 
@@ -122,12 +148,8 @@ public abstract class GameObject {
      * Get y position of the object
      * @return y position of the object
      */
-    public Double getY() {
-        return yPos;
-    }
-
-    public void setY(double y) {
-        this.yPos = y;
+    public double getY() {
+        return store == null ? yPos : store.y[slot];
     }
 
     /**
@@ -135,7 +157,7 @@ public abstract class GameObject {
      * @return x speed of object
      */
     public double getXSpeed() {
-        return xSpeed;
+        return store == null ? xSpeed : store.xSpeed[slot];
     }
 
     /**
@@ -143,7 +165,8 @@ public abstract class GameObject {
      * @param xSpeed the x speed to set
      */
     public void setXSpeed(double xSpeed) {
-        this.xSpeed = xSpeed;
+        if (store == null) this.xSpeed = xSpeed;
+        else store.xSpeed[slot] = xSpeed;
     }
 
     /**
@@ -151,7 +174,7 @@ public abstract class GameObject {
      * @return y speed of object
      */
     public double getYSpeed() {
-        return ySpeed;
+        return store == null ? ySpeed : store.ySpeed[slot];
     }
 
     /**
@@ -159,23 +182,99 @@ public abstract class GameObject {
      * @param ySpeed the y speed to set
      */
     public void setYSpeed(double ySpeed) {
-        this.ySpeed = ySpeed;
+        if (store == null) this.ySpeed = ySpeed;
+        else store.ySpeed[slot] = ySpeed;
     }
 
-    public void setWidth(Double width) {
-        this.width = width;
+    public void setWidth(double width) {
+        if (store == null) this.width = width;
+        else store.width[slot] = width;
     }
 
-    public void setHeight(Double height) {
-        this.height = height;
+    public void setHeight(double height) {
+        if (store == null) this.height = height;
+        else store.height[slot] = height;
+    }
+
+    public double getWidth() {
+        return store == null ? width : store.width[slot];
+    }
+
+    public double getHeight() {
+        return store == null ? height : store.height[slot];
+    }
+
+    /**
+     * Records the current position as the position at the start of a simulation tick, which is used to interpolate
+     * the position of this object between ticks.
+     */
+    public void savePreviousPosition() {
+        if (store == null) {
+            previousX = xPos;
+            previousY = yPos;
+        }
+        else {
+            store.previousX[slot] = store.x[slot];
+            store.previousY[slot] = store.y[slot];
+        }
+    }
+
+    /**
+     * Get the x position of the object part way between its position at the start of the last simulation tick and its
+     * current position
+     * @param alpha how far between the two positions, from 0 to 1
+     * @return the interpolated x position
+     */
+    public double getInterpolatedX(double alpha) {
+        double fromX = store == null ? previousX : store.previousX[slot];
+        return fromX + (getX() - fromX) * alpha;
+    }
+
+    /**
+     * Get the y position of the object part way between its position at the start of the last simulation tick and its
+     * current position
+     * @param alpha how far between the two positions, from 0 to 1
+     * @return the interpolated y position
+     */
+    public double getInterpolatedY(double alpha) {
+        double fromY = store == null ? previousY : store.previousY[slot];
+        return fromY + (getY() - fromY) * alpha;
     }
 
-    public Double getWidth() {
-        return width;
+    /**
+     * Get the EntityStore that holds this object's state
+     * @return the EntityStore, or null if this object holds its own state
+     */
+    public EntityStore getEntityStore() {
+        return store;
     }
 
-    public Double getHeight() {
-        return height;
+    /**
+     * Get the slot of this object in its EntityStore
+     * @return the slot, or -1 if this object holds its own state
+     */
+    public int getSlot() {
+        return slot;
+    }
+
+    // called by an EntityStore once it holds this object's state, or after moving it to a different slot
+    void attach(EntityStore entityStore, int entitySlot) {
+        store = entityStore;
+        slot = entitySlot;
+    }
+
+    // called by an EntityStore before it releases this object, copying the state back into this object's fields
+    void detach() {
+        xPos = getX();
+        yPos = getY();
+        width = getWidth();
+        height = getHeight();
+        xSpeed = getXSpeed();
+        ySpeed = getYSpeed();
+        previousX = getInterpolatedX(0);
+        previousY = getInterpolatedY(0);
+        store = null;
+        slot = -1;
     }
 
     public Game getGame() {
@@ -194,6 +293,32 @@ public abstract class GameObject {
         return visible;
     }
 
+    /**
+     * Determines if this object's bounding box intersects another object's bounding box. Bounding boxes are in tile
+     * units and, like the views drawn during game play, each object occupies a single tile. Boxes that share an
+     * edge are considered to intersect.
+     * @param other the other object
+     * @return whether the two objects intersect
+     */
+    public boolean intersects(GameObject other) {
+        return intersects(other.getX(), other.getY(), BOUNDS_WIDTH, BOUNDS_HEIGHT);
+    }
+
+    /**
+     * Determines if this object's bounding box intersects a box given in tile units.
+     * @param x the x position of the box
+     * @param y the y position of the box
+     * @param width the width of the box
+     * @param height the height of the box
+     * @return whether this object intersects the box
+     */
+    public boolean intersects(double x, double y, double width, double height) {
+        double minX = getX();
+        double minY = getY();
+        return x + width >= minX && y + height >= minY &&
+                x <= minX + BOUNDS_WIDTH && y <= minY + BOUNDS_HEIGHT;
+    }
+
     public abstract boolean isPlayer();
 
     public abstract List<Object> getParameters();
@@ -205,13 +330,13 @@ public abstract class GameObject {
         if (this == o) return true;
         if (o == null || getClass() != o.getClass()) return false;
         GameObject that = (GameObject) o;
-        return width.equals(that.width) &&
-                height.equals(that.height) &&
+        return Double.compare(getWidth(), that.getWidth()) == 0 &&
+                Double.compare(getHeight(), that.getHeight()) == 0 &&
                 imgPath.equals(that.imgPath);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(width, height, imgPath);
+        return Objects.hash(getWidth(), getHeight(), imgPath);
     }
 }
\ No newline at end of file
@@ -8,53 +8,35 @@ public abstract class MovingGameObject extends GameObject{
     public static final int DOWN_OR_LEFT = -1;
     public static final int UP_OR_RIGHT = 1;
 
-    private Double xSpeed;
-    private Double ySpeed;
-    private Integer xDir;
-    private Integer yDir;
+    private int xDir;
+    private int yDir;
 
     public MovingGameObject(String imgPath, Double width, Double height, Double xPos,
                             Double yPos, Double xSpeed, Double ySpeed) {
         super(imgPath, width, height, yPos, xPos);
-        this.xSpeed = xSpeed;
-        this.ySpeed = ySpeed;
-        if (xSpeed != 0) xDir = ((Double)(xSpeed / Math.abs(xSpeed))).intValue();
+        super.setXSpeed(xSpeed);
+        super.setYSpeed(ySpeed);
+        if (xSpeed != 0) xDir = (int) Math.signum(xSpeed);
         else xDir = UP_OR_RIGHT;
-        if (ySpeed != 0) yDir = ((Double)(ySpeed / Math.abs(ySpeed))).intValue();
+        if (ySpeed != 0) yDir = (int) Math.signum(ySpeed);
         else yDir = UP_OR_RIGHT;
     }
 
-    /**
-     * Get x speed of the object
-     * @return x speed of object
-     */
-    public double getXSpeed() {
-        return xSpeed;
-    }
-
     /**
      * Set x speed of the object
      * @param xSpeed the x speed to set
      */
     public void setXSpeed(double xSpeed) {
-        this.xSpeed = xSpeed;
+        super.setXSpeed(xSpeed);
         xDir = setDirection(getXDirection(), xSpeed);
     }
 
-    /**
-     * Get y speed of the object
-     * @return y speed of object
-     */
-    public double getYSpeed() {
-        return ySpeed;
-    }
-
     /**
      * Set y speed of the object
      * @param ySpeed the y speed to set
      */
     public void setYSpeed(double ySpeed) {
-        this.ySpeed = ySpeed;
+        super.setYSpeed(ySpeed);
         yDir = setDirection(getYDirection(), ySpeed);
     }
 
@@ -85,7 +67,7 @@ public abstract class MovingGameObject extends GameObject{
         yDir = setDirection(yDir, speed);
     }
 
-    private Integer setDirection(Integer initDirection, Double speed) {
+    private int setDirection(int initDirection, double speed) {
         if (speed == 0) return initDirection;
         return speed < 0 ? DOWN_OR_LEFT : UP_OR_RIGHT;
     }
@@ -95,7 +77,7 @@ public abstract class MovingGameObject extends GameObject{
      * @return x direction
      */
     @Override
-    public Integer getXDirection() {
+    public int getXDirection() {
         return xDir;
     }
 
@@ -103,7 +85,7 @@ public abstract class MovingGameObject extends GameObject{
      * Get the y direction
      * @return y direction
      */
-    public Integer getYDirection() {
+    public int getYDirection() {
         return yDir;
     }
 
@@ -111,16 +93,16 @@ public abstract class MovingGameObject extends GameObject{
      * Reverse the x direction
      */
     public void reverseXDirection() {
-        xSpeed *= -1;
-        xDir = ((Double)(xSpeed / Math.abs(xSpeed))).intValue();
+        super.setXSpeed(-getXSpeed());
+        xDir = (int) Math.signum(getXSpeed());
     }
 
     /**
      * Reverse the y direction
      */
     public void reverseYDirection() {
-        ySpeed *= -1;
-        yDir = ((Double)(ySpeed / Math.abs(ySpeed))).intValue();;
+        super.setYSpeed(-getYSpeed());
+        yDir = (int) Math.signum(getYSpeed());
     }
 
     public List<Object> getParameters() {
@@ -11,8 +11,8 @@ import engine.gameobject.GameObject;
  */
 public class Enemy extends Opponent{
 
-    public static final Double DEFAULT_X_SPEED = 0.01d;
-    private final Double MIN_DIST = 8d;
+    public static final double DEFAULT_X_SPEED = 0.01d;
+    private final double MIN_DIST = 8d;
     private double initialX;
     private double initialY;
 
@@ -32,11 +32,21 @@ public class Enemy extends Opponent{
      * @param target the target that should be attacked
      */
     public void updateLogic(GameObject target) {
+        updateLogic(target, 1);
+    }
+
+    /**
+     * Moves the enemy towards a target over a number of frames, so that it moves at the same speed however long each
+     * simulation tick is.
+     * @param target the target that should be attacked
+     * @param frames the length of the tick, in frames
+     */
+    public void updateLogic(GameObject target, double frames) {
         if (target.getX() > this.getX() && Math.abs(target.getX() - this.getX()) <= MIN_DIST) {
-            this.setX(this.getX() + DEFAULT_X_SPEED);
+            this.setX(this.getX() + DEFAULT_X_SPEED * frames);
         }
         if (target.getX() < this.getX() && Math.abs(target.getX() - this.getX()) <= MIN_DIST) {
-            this.setX(this.getX() - DEFAULT_X_SPEED);
+            this.setX(this.getX() - DEFAULT_X_SPEED * frames);
         }
     }
 
@@ -7,7 +7,7 @@ import java.util.List;
 
 public class Mongoose extends Enemy {
 
-    public static final Double DEFAULT_X_SPEED = 0.01d;
+    public static final double DEFAULT_X_SPEED = 0.01d;
     public static final double DEFAULT_Y_SPEED = 0d;
 
     public Mongoose(String imgPath, Double width, Double height, Double xPos, Double yPos, Double xSpeed) {
@@ -18,7 +18,7 @@ public class Mongoose extends Enemy {
         this(copy.getImgPath(), copy.getWidth(), copy.getHeight(), copy.getX(), copy.getY(), copy.getXSpeed());
     }
 
-    public Double getYSpeedDefault() {
+    public double getYSpeedDefault() {
         return DEFAULT_Y_SPEED;
     }
 }
\ No newline at end of file
@@ -8,7 +8,7 @@ import java.util.List;
 
 public abstract class Opponent extends MovingGameObject {
 
-    private Double initXSpeed;
+    private double initXSpeed;
 
     public Opponent(String imgPath, Double width, Double height, Double xPos, Double yPos, Double xSpeed, Double ySpeed) {
         super(imgPath, width, height, xPos, yPos, xSpeed, ySpeed);
@@ -28,7 +28,7 @@ public abstract class Opponent extends MovingGameObject {
         return true;
     }
 
-    protected Double getInitialX() {
+    protected double getInitialX() {
         return initXSpeed;
     }
 }
@@ -13,8 +13,8 @@ public class HorizontalSlidingPlatform extends MovingPlatform implements Platfor
     public static final int LEFT = -1;
     public static final int RIGHT = 1;
 
-    private Double minX;
-    private Double maxX;
+    private double minX;
+    private double maxX;
 
     public HorizontalSlidingPlatform(String imgPath, Double width, Double height, Double xPos, Double yPos, Double xSpeed,
                                      Double minX, Double maxX) {
@@ -6,10 +6,10 @@ import engine.gameobject.player.SimplePlayer;
 
 public abstract class MovingPlatform extends MovingGameObject implements Platform{
 
-    private Double minX;
-    private Double maxX;
-    private Double minY;
-    private Double maxY;
+    private double minX;
+    private double maxX;
+    private double minY;
+    private double maxY;
 
     public MovingPlatform(String imgPath, Double width, Double height, Double xPos,
                           Double yPos, Double xSpeed, Double ySpeed, Double minX, Double maxX, Double minY, Double maxY) {
@@ -36,19 +36,19 @@ public abstract class MovingPlatform extends MovingGameObject implements Platfor
         handleEntityInteraction(player);
     }
 
-    public Double getMinX() {
+    public double getMinX() {
         return minX;
     }
 
-    public Double getMinY() {
+    public double getMinY() {
         return minY;
     }
 
-    public Double getMaxX() {
+    public double getMaxX() {
         return maxX;
     }
 
-    public Double getMaxY() {
+    public double getMaxY() {
         return maxY;
     }
 
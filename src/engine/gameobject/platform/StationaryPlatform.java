@@ -9,7 +9,7 @@ import java.util.List;
 
 public class StationaryPlatform extends StationaryGameObject implements Platform {
 
-    public static final Double NEW_ENTITY_Y_SPEED = 0d;
+    public static final double NEW_ENTITY_Y_SPEED = 0d;
 
     public StationaryPlatform(String imgPath, Double width, Double height, Double xPos, Double yPos) {
         super(imgPath, width, height, xPos, yPos);
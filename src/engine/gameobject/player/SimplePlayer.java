@@ -7,8 +7,8 @@ import java.util.List;
 import java.util.Map;
 
 public class SimplePlayer extends MovingGameObject implements Player{
-    public static final Double DEFAULT_X_SPEED = 2d; // for key press
-    public static final Double DEFAULT_Y_SPEED = -2d; // for jumping
+    public static final double DEFAULT_X_SPEED = 2d; // for key press
+    public static final double DEFAULT_Y_SPEED = -2d; // for jumping
     public static final double LEFT = -1*0.5;
     public static final double RIGHT = 1*0.5;
     public static final double DOWN = -1;
@@ -1,17 +1,16 @@
 package engine.general;
 
-import data.ReadSaveException;
 import engine.leveldirectory.gamesequence.*;
 import engine.leveldirectory.hud.HUDController;
 import engine.leveldirectory.graphicsengine.GraphicsEngine;
 import engine.leveldirectory.level.LevelContainer;
+import engine.leveldirectory.level.LevelLoadException;
 import javafx.scene.Scene;
 import javafx.scene.layout.BorderPane;
 import javafx.stage.Stage;
 import pagination.PageController;
 
 
-import java.lang.reflect.InvocationTargetException;
 import java.util.List;
 
 /**
@@ -36,8 +35,7 @@ public class Game {
      * @param height: height of the screen
      * @param width: width of the screen
      */
-    public Game(int num, Scene scene, BorderPane root, PageController pageController, double height, double width) throws NoSuchMethodException, ReadSaveException,
-            InstantiationException, IllegalAccessException, InvocationTargetException, ClassNotFoundException {
+    public Game(int num, Scene scene, BorderPane root, PageController pageController, double height, double width) throws LevelLoadException {
 
         levelContainer = new LevelContainer(this);
         levelContainer.loadLevels();
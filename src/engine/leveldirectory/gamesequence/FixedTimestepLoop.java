@@ -0,0 +1,91 @@
+package engine.leveldirectory.gamesequence;
+
+import java.util.function.DoubleConsumer;
+
+/**
+ * This class runs a simulation at a fixed tick rate, independent of how often frames are actually rendered. Each time
+ * a frame is rendered, the real time that has passed since the last frame is added to an accumulator, and as many
+ * simulation ticks are run as fit into it. When rendering stalls, the simulation therefore catches up instead of
+ * slowing down.
+ *
+ * The time left over in the accumulator is passed to the renderer as a fraction of a tick, so that it can interpolate
+ * between the last two simulation states. To avoid a spiral where catching up takes longer than the time it recovers,
+ * at most a fixed number of ticks are run per frame; any time beyond this is dropped.
+ */
+public class FixedTimestepLoop {
+
+    public static final double DEFAULT_TICK_RATE = 1000d / GameSeqController.FRAME_DURATION;
+    public static final int DEFAULT_MAX_CATCH_UP_TICKS = 5;
+    private static final double NANOS_PER_MILLI = 1_000_000d;
+
+    private double tickDuration;
+    private int maxCatchUpTicks;
+    private DoubleConsumer tick;
+    private DoubleConsumer render;
+    private double accumulator;
+    private long lastTime;
+    private boolean hasLastTime;
+
+    /**
+     * The constructor to create a FixedTimestepLoop.
+     * @param tickRate the number of simulation ticks per second
+     * @param maxCatchUpTicks the maximum number of simulation ticks to run for a single frame
+     * @param tick runs one simulation tick, given the duration of a tick in milliseconds
+     * @param render renders a frame, given how far (from 0 to 1) the frame is between the last tick and the next one
+     */
+    public FixedTimestepLoop(double tickRate, int maxCatchUpTicks, DoubleConsumer tick, DoubleConsumer render) {
+        this.tickDuration = 1000d / tickRate;
+        this.maxCatchUpTicks = maxCatchUpTicks;
+        this.tick = tick;
+        this.render = render;
+    }
+
+    /**
+     * The constructor to create a FixedTimestepLoop with the default tick rate and catch up limit.
+     * @param tick runs one simulation tick, given the duration of a tick in milliseconds
+     * @param render renders a frame, given how far (from 0 to 1) the frame is between the last tick and the next one
+     */
+    public FixedTimestepLoop(DoubleConsumer tick, DoubleConsumer render) {
+        this(DEFAULT_TICK_RATE, DEFAULT_MAX_CATCH_UP_TICKS, tick, render);
+    }
+
+    /**
+     * Runs the simulation ticks that are due at the given time and renders a frame.
+     * @param now the current time, in nanoseconds
+     */
+    public void advance(long now) {
+        if (hasLastTime) {
+            accumulator += (now - lastTime) / NANOS_PER_MILLI;
+        }
+        lastTime = now;
+        hasLastTime = true;
+        int ticks = 0;
+        while (accumulator >= tickDuration && ticks < maxCatchUpTicks) {
+            accumulator -= tickDuration;
+            tick.accept(tickDuration);
+            ticks++;
+        }
+        if (accumulator >= tickDuration) {
+            accumulator %= tickDuration;
+        }
+        render.accept(accumulator / tickDuration);
+    }
+
+    /**
+     * Forgets the time of the last frame and any time that has not yet been simulated. This should be called whenever
+     * the loop is resumed, so that the time spent paused is not simulated, and can be called from a tick to skip any
+     * remaining ticks for the current frame.
+     */
+    public void reset() {
+        accumulator = 0;
+        hasLastTime = false;
+    }
+
+    /**
+     * Returns the duration of one simulation tick.
+     * @return the tick duration, in milliseconds
+     */
+    public double getTickDuration() {
+        return tickDuration;
+    }
+}
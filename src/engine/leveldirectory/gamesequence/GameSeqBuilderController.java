@@ -73,7 +73,7 @@ public class GameSeqBuilderController extends GameSeqController implements Scene
     }
 
     private void initialize() {
-        List<GameObject> gameObjects = getLevelGameObjects(getLevelContainer().getLevelNum());
+        List<GameObject> gameObjects = getLevelGameObjects();
         List<GameObjectView> gameObjectViews = createGameObjectViews(gameObjects);
         TilePaneDimensions dimensions = getLevelContainer().getCurrentLevel().getDimensions();
         bankController = new BankController(getLevelContainer().getCurrentLevel().getBankController());
@@ -5,6 +5,8 @@ import builder.stage.TilePaneDimensions;
 import engine.gameobject.GameObject;
 import engine.gameobject.player.SimplePlayer;
 import engine.general.Game;
+import engine.leveldirectory.graphicsengine.GameRenderer;
+import engine.leveldirectory.graphicsengine.NodeRenderer;
 import engine.leveldirectory.hud.HUDController;
 import engine.leveldirectory.level.Level;
 import engine.leveldirectory.level.LevelContainer;
@@ -26,10 +28,14 @@ import java.util.List;
  */
 public abstract class GameSeqController {
     public static final int FRAME_DURATION = 20;
+    public static final int CULLING_MARGIN = 2;
     private LevelContainer levelContainer;
     private Timeline timeline;
     private SimplePlayer simplePlayer;
     private GameObjectView simplePlayerView;
+    private GameObjectView displayedPlayerView;
+    private GameRenderer renderer;
+    private Level displayedLevel;
     private Game game;
 
     private Pane gamePlayPane;
@@ -54,40 +60,74 @@ public abstract class GameSeqController {
         setUpView();
     }
 
+    /**
+     * Updates the game play pane to match the current level. Only objects on screen, or within CULLING_MARGIN tiles of
+     * it, are drawn, by the renderer chosen for the level.
+     */
     public void display() {
-        gamePlayPane.getChildren().clear();
-        for (GameObject g : levelContainer.getCurrentLevel().getGameObjects()) {
-            GameObjectView gameObjectView = createGameObjectView(g);
-            gamePlayPane.getChildren().add(gameObjectView);
+        display(1);
+    }
+
+    /**
+     * Updates the game play pane to match the current level, drawing moving objects part way between their positions
+     * at the start and end of the last simulation tick.
+     * @param alpha how far between the two positions to draw moving objects, from 0 to 1
+     */
+    public void display(double alpha) {
+        Level level = levelContainer.getCurrentLevel();
+        if (level != displayedLevel) {
+            displayLevel(level);
         }
-        simplePlayerView = createGameObjectView(simplePlayer);
-        gamePlayPane.getChildren().add(simplePlayerView);
+        renderer.render(getVisibleObjects(level), alpha);
+        double x = simplePlayer.getInterpolatedX(alpha);
+        double y = simplePlayer.getInterpolatedY(alpha);
+        simplePlayerView.updatePos(x * dimensions.getTileWidth(), y * dimensions.getTileHeight());
+        simplePlayerView.updateOrientation(simplePlayer.getXDirection());
+    }
+
+    /**
+     * Returns the objects within CULLING_MARGIN tiles of the part of the game play pane that is on screen, which is
+     * found from how far the pane has been dragged. They are in the order they are in the level, so the renderer draws
+     * overlapping objects the same way however they came into view.
+     */
+    private List<GameObject> getVisibleObjects(Level level) {
+        double minX = -1 * gamePlayPane.getTranslateX() / dimensions.getTileWidth() - CULLING_MARGIN;
+        double minY = -1 * gamePlayPane.getTranslateY() / dimensions.getTileHeight() - CULLING_MARGIN;
+        double maxX = minX + dimensions.getScreenWidth() / dimensions.getTileWidth() + 2 * CULLING_MARGIN;
+        double maxY = minY + dimensions.getScreenHeight() / dimensions.getTileHeight() + 2 * CULLING_MARGIN;
+        return level.getObjectsInRegion(minX, maxX, minY, maxY);
+    }
+
+    private void displayLevel(Level level) {
+        if (renderer != null) {
+            renderer.clear();
+        }
+        renderer = level.getRendererType().createRenderer(gamePlayPane, dimensions);
+        if (displayedPlayerView != simplePlayerView) {
+            gamePlayPane.getChildren().remove(displayedPlayerView);
+            simplePlayerView.updateDimensions(dimensions.getTileWidth(), dimensions.getTileHeight());
+            gamePlayPane.getChildren().add(simplePlayerView);
+            displayedPlayerView = simplePlayerView;
+        }
+        simplePlayerView.toFront();
+        displayedLevel = level;
     }
 
     private void setPlayer() {
-        for (Level l : levelContainer.getLevels())
-            for (GameObject g : l.getGameObjects())
-                if (g.isPlayer()) {
-                    simplePlayer = (SimplePlayer) g;
-                    l.removeObject(g);
-                    simplePlayerView = new GameObjectView(simplePlayer.getImgPath(), simplePlayer.getX(), simplePlayer.getY(),
-                            simplePlayer.getWidth(), simplePlayer.getHeight(), 20);
-                    return;
-                }
-    }
-
-    private GameObjectView createGameObjectView(GameObject gameObject) {
-        GameObjectView gameObjectView = new GameObjectView(gameObject.getImgPath(), gameObject.getX(), gameObject.getY(),
-                gameObject.getWidth(), gameObject.getHeight(), gameObject.getXDirection());
-        gameObjectView.convertAttributesToGridBased(dimensions.getTileWidth(),
-                dimensions.getTileHeight());
-        return gameObjectView;
+        Level l = levelContainer.getCurrentLevel();
+        for (GameObject g : l.getPlayers()) {
+            simplePlayer = (SimplePlayer) g;
+            l.removeObject(g);
+            simplePlayerView = new GameObjectView(simplePlayer.getImgPath(), simplePlayer.getX(), simplePlayer.getY(),
+                    simplePlayer.getWidth(), simplePlayer.getHeight(), 20);
+            return;
+        }
     }
 
     public List<GameObjectView> createGameObjectViews(List<GameObject> gameObjects) {
         List<GameObjectView> gameObjectViews = new ArrayList<>();
         for (GameObject gameObject : gameObjects) {
-            gameObjectViews.add(createGameObjectView(gameObject));
+            gameObjectViews.add(NodeRenderer.createGameObjectView(gameObject, dimensions));
         }
         return gameObjectViews;
     }
@@ -172,8 +212,8 @@ public abstract class GameSeqController {
         return nextPlayScene;
     }
 
-    protected List<GameObject> getLevelGameObjects(int level) {
-        List<GameObject> gameObjects = getLevelContainer().getLevels().get(level).getGameObjects();
+    protected List<GameObject> getLevelGameObjects() {
+        List<GameObject> gameObjects = getLevelContainer().getCurrentLevel().getGameObjects();
         return gameObjects;
     }
 
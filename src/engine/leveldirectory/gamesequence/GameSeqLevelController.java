@@ -2,20 +2,17 @@ package engine.leveldirectory.gamesequence;
 
 import engine.UserController;
 
+import data.ErrorLogger;
 import data.ReadSaveException;
 
-import engine.gameobject.GameObject;
-import engine.gameobject.opponent.Enemy;
-import engine.gameobject.opponent.Opponent;
 import engine.gameobject.platform.Start;
-import engine.gameobject.player.Player;
 import engine.gameobject.player.SimplePlayer;
 import engine.general.Game;
 import engine.leveldirectory.level.LevelContainer;
+import engine.leveldirectory.level.LevelLoadException;
 import engine.view.GameObjectView;
 import javafx.animation.KeyFrame;
 import javafx.animation.Timeline;
-import javafx.geometry.Bounds;
 import javafx.scene.Scene;
 import javafx.scene.input.KeyCode;
 import javafx.scene.input.KeyEvent;
@@ -29,12 +26,9 @@ import static javafx.application.Platform.exit;
 
 public class GameSeqLevelController extends GameSeqController implements SceneChanger {
 
-    public static final double GRAVITY = 0.01;
-    private final Double SUPER_JUMP = -8D;
     public  double maxScreenDepth;
-    private double initialX;
-    private double initialY;
-    private boolean lifeLost = false;
+    private FixedTimestepLoop simulationLoop;
+    private LevelSimulation simulation;
 
     public GameSeqLevelController(LevelContainer levelContainer, Game game, Scene scene, BorderPane root, double height, double width) {
         super(levelContainer, game, scene, root, height, width);
@@ -45,12 +39,27 @@ public class GameSeqLevelController extends GameSeqController implements SceneCh
         initializeSimplePlayer();
     }
 
+    /**
+     * Resumes the play stage. Time spent paused is not simulated.
+     */
+    @Override
+    public void play() {
+        simulationLoop.reset();
+        super.play();
+    }
+
+    /**
+     * Sets how many simulation ticks are run per second, independent of how often frames are rendered.
+     * @param tickRate the number of simulation ticks per second
+     */
+    public void setTickRate(double tickRate) {
+        simulationLoop = new FixedTimestepLoop(tickRate, FixedTimestepLoop.DEFAULT_MAX_CATCH_UP_TICKS,
+                this::step, this::render);
+    }
+
     private void initializeSimplePlayer() {
         PageController temp = getGame().getPageController();
-        Start temp2 = null;
-        for (GameObject g1 : getLevelContainer().getCurrentLevel().getAllGameObjects())
-            if (g1 instanceof Start)
-                temp2 = (Start) g1;
+        Start temp2 = getLevelContainer().getCurrentLevel().getStart();
         UserController userController = new UserController(temp.getUser(), temp2);
         SimplePlayer s = new SimplePlayer(getGame().getPC().getUser().getAvatar(), 1d,1d, temp2.getX(), temp2.getY(), 0.,0.);
         setSimplePlayer(s);
@@ -60,8 +69,18 @@ public class GameSeqLevelController extends GameSeqController implements SceneCh
                 getSimplePlayer().getY(), getSimplePlayer().getWidth(),
                 getSimplePlayer().getHeight(), 0);
         setSimplePlayerView(g);
-        initialX = temp2.getX();
-        initialY = temp2.getY();
+        simulation = new LevelSimulation(getLevelContainer().getCurrentLevel(), getSimplePlayer(), maxScreenDepth,
+                getHUDController().getLives());
+        simulation.setOnLifeLost(() -> getHUDController().lowerLife());
+        simulation.setOnWin(this::endPhase);
+    }
+
+    /**
+     * Gets the simulation of the level being played, which this controller renders.
+     * @return the simulation
+     */
+    public LevelSimulation getSimulation() {
+        return simulation;
     }
 
     /**
@@ -81,8 +100,13 @@ public class GameSeqLevelController extends GameSeqController implements SceneCh
     }
 
     public void incrementLevel() {
+        try {
+            getLevelContainer().incrementLevel();
+        } catch (LevelLoadException e) {
+            ErrorLogger.log(e);
+            return;
+        }
         getRoot().getChildren().clear();
-        getLevelContainer().incrementLevel();
         getHUDController().updateLevel(getLevelContainer().getLevelNum());
         GameSeqBuilderController builderTemp = new GameSeqBuilderController(getLevelContainer(),
                 getGame(), getMyScene(), getRoot(), getHeight(), getWidth());
@@ -90,29 +114,21 @@ public class GameSeqLevelController extends GameSeqController implements SceneCh
     }
 
     private void setupTimeline() {
-        KeyFrame frame = new KeyFrame(Duration.millis(FRAME_DURATION), e -> step());
+        simulationLoop = new FixedTimestepLoop(this::step, this::render);
+        KeyFrame frame = new KeyFrame(Duration.millis(FRAME_DURATION), e -> simulationLoop.advance(System.nanoTime()));
         Timeline temp = new Timeline();
         temp.setCycleCount(Timeline.INDEFINITE);
         temp.getKeyFrames().add(frame);
         setTimeline(temp);
     }
 
-    private void step() {
-        lifeLost = false;
-        move(getSimplePlayer(), getSimplePlayer().getXSpeed(), getSimplePlayer().getYSpeed());
-        if (getSimplePlayer().getY() > maxScreenDepth) {
-            getHUDController().lowerLife();
-            System.out.println("fell down! life lost!");
-            lifeLost = true;
-            respawn();
-        }
-        if (!lifeLost) {
-            boolean flag = playerObjectCollisions();
-            if (!flag)
-                gravity(getSimplePlayer());
-        }
-        updateEnemyPositions();
-        super.display();
+    // advances the simulation by one tick
+    private void step(double elapsedTime) {
+        simulation.step(elapsedTime);
+    }
+
+    private void render(double alpha) {
+        super.display(alpha);
         isLose();
     }
 
@@ -121,127 +137,20 @@ public class GameSeqLevelController extends GameSeqController implements SceneCh
             if (key.getCode() == KeyCode.N)
                 endPhase();
             else
-                getSimplePlayer().handleInput(key.getCode());
+                simulation.handleInput(key.getCode());
         });
     }
 
-    // implements player-gameobject collisions
-    // if the player is intersecting with an enemy, move it backwards in the x direction in the direction it came from
-    private boolean playerObjectCollisions() {
-        for (GameObject g : getLevelContainer().getCurrentLevel().getGameObjects()) {
-            if (intersect(getSimplePlayer(), g)) {
-                getSimplePlayer().setYSpeed(0);
-                getSimplePlayer().setXSpeed(0);
-                isWin(g);
-                isEnemy(g);
-                isDangerousPlatform(g);
-                isBroom(g);
-                return true;
-            }
-        }
-        return false;
-    }
-
-    // returns true if two gameObjectViews are intersecting
-    private boolean intersect(GameObject g1, GameObject g2){
-        GameObjectView view1 = createGOView(g1);
-        GameObjectView view2 = createGOView(g2);
-
-        Bounds bounds1 = view1.getBoundsInLocal();
-        Bounds bounds2 = view2.getBoundsInLocal();
-
-        if (bounds1.intersects(bounds2))
-            return true;
-        else
-            return false;
-    }
-
-    private GameObjectView createGOView(GameObject g) {
-        GameObjectView gameObjectView = new GameObjectView(g.getImgPath(), g.getX(), g.getY(), g.getWidth(), g.getHeight(), g.getXDirection());
-        gameObjectView.setX(gameObjectView.getX() * getWidth()/30);
-        gameObjectView.setY(gameObjectView.getY() * getHeight()/20);
-        gameObjectView.setFitWidth(getWidth()/30);
-        gameObjectView.setFitHeight(getHeight()/20);
-        return gameObjectView;
-    }
-
-    private void gravity(GameObject gameObject) {
-        gameObject.setYSpeed(gameObject.getYSpeed() + (GRAVITY));
-    }
-
-    private void move(GameObject gameObject, double xDelta, double yDelta) {
-        gameObject.setX(gameObject.getX() + xDelta);
-        gameObject.setY(gameObject.getY() + yDelta);
-    }
-
-    // if hit enemy, lose life + knockback
-    private void isEnemy(GameObject gameObject) {
-        if (gameObject instanceof Opponent) {
-            getHUDController().lowerLife();
-            System.out.println("enemy collision! -1 life");
-            respawn();
-        }
-    }
-
-    // if you hit a checkpoint you win
-    private void isWin(GameObject gameObject) {
-        if (gameObject.getImgPath().equals("images/objects/checkpoint.png")) {
-            endPhase();
-        }
-    }
-
-    private void isBroom(GameObject gameObject) {
-        if (gameObject.getImgPath().equals("images/objects/broomstick.png")) {
-            getSimplePlayer().setY(getSimplePlayer().getY() + SUPER_JUMP);
-        }
-    }
-
     private void isLose() {
         if (getHUDController().getLives() == 0) {
             getRoot().getChildren().add(new LossView(getGame().getPC(), this));
         }
     }
 
-    // lose life + knock back if hit on salt
-    private void isDangerousPlatform(GameObject gameObject) {
-        if (gameObject.getImgPath().equals("images/objects/salt.png")) {
-            getHUDController().lowerLife();
-            System.out.println("salt damage! life lost!");
-            respawn();
-            return;
-        }
-    }
-
-    private void updateEnemyPositions() {
-        for (GameObject g : getLevelContainer().getCurrentLevel().getAllGameObjects())
-            if (g instanceof Enemy) {
-                if (g.getY() > maxScreenDepth) {
-                    ((Enemy) g).respawn();
-                } else if (!checkAttached((Enemy) g)) {
-                    g.setY(g.getY()+0.1d);
-                } else
-                    ((Enemy) g).updateLogic(getSimplePlayer());
-            }
-    }
-
-    // checks if the enemy is attached to something that's not a player or enemy
-    private boolean checkAttached(Enemy enemy) {
-        for (GameObject g : getLevelContainer().getCurrentLevel().getAllGameObjects()) {
-            if (intersect(g, enemy) && g != enemy && !(g instanceof Enemy) && !(g instanceof Player))
-                return true;
-        }
-        return false;
-    }
-
-    // after the player loses a life, he is sent back to the starting location
-    private void respawn() {
-        getSimplePlayer().setX(initialX);
-        getSimplePlayer().setY(initialY);
-    }
-
     // ends the play stage
     private void endPhase() {
         this.getTimeline().stop();
+        simulationLoop.reset();
         if (getHUDController().getLives() <= 0)
             exit();
         getNextPlayScene().run();
@@ -0,0 +1,306 @@
+package engine.leveldirectory.gamesequence;
+
+import engine.gameobject.EntityStore;
+import engine.gameobject.GameObject;
+import engine.gameobject.opponent.Enemy;
+import engine.gameobject.opponent.Opponent;
+import engine.gameobject.player.Player;
+import engine.gameobject.player.SimplePlayer;
+import engine.leveldirectory.level.Level;
+import engine.objectinteraction.CollisionHandlerTable;
+import javafx.scene.input.KeyCode;
+
+import java.util.Collection;
+import java.util.Iterator;
+
+/**
+ * This class runs the game play of a level without any frontend. It moves the player and enemies, handles collisions,
+ * and keeps track of the player's lives and whether the level has been won, working only with a Level and its
+ * GameObjects.
+ *
+ * Because it has no dependency on a Scene or the JavaFX toolkit, a level can be played by feeding the simulation
+ * scripted key inputs, which allows levels to be validated and benchmarked without being displayed. During game play,
+ * the GameSeqLevelController drives this simulation and renders its state.
+ *
+ * What happens when the player touches an object is looked up by the object's kind in a CollisionHandlerTable, to which
+ * handlers for new kinds of objects can be added.
+ *
+ * Levels with at least ENTITY_STORE_THRESHOLD objects are moved into an EntityStore, so that the per-tick passes over
+ * the level's objects run over primitive arrays instead of a list of GameObjects.
+ */
+public class LevelSimulation {
+
+    public static final double GRAVITY = 0.01;
+    public static final double ENEMY_FALL_SPEED = 0.1;
+    public static final double SUPER_JUMP = -8;
+    public static final int DEFAULT_LIVES = 5;
+    public static final int ENTITY_STORE_THRESHOLD = 10000;
+    public static final String CHECKPOINT_IMG = "images/objects/checkpoint.png";
+    public static final String BROOM_IMG = "images/objects/broomstick.png";
+    public static final String SALT_IMG = "images/objects/salt.png";
+
+    private Level level;
+    private SimplePlayer player;
+    private double maxDepth;
+    private double initialX;
+    private double initialY;
+    private int lives;
+    private boolean hasWon;
+    private CollisionHandlerTable collisionHandlers;
+    private Runnable onLifeLost = () -> {};
+    private Runnable onWin = () -> {};
+
+    /**
+     * The constructor to create a LevelSimulation. The player respawns at the position it is in when the simulation
+     * is created.
+     * @param level the level to be played
+     * @param player the player, which is not one of the level's GameObjects
+     * @param maxDepth the y position below which the player falls out of the level
+     * @param lives the number of lives the player starts with
+     */
+    public LevelSimulation(Level level, SimplePlayer player, double maxDepth, int lives) {
+        this.level = level;
+        this.player = player;
+        this.maxDepth = maxDepth;
+        this.lives = lives;
+        initialX = player.getX();
+        initialY = player.getY();
+        collisionHandlers = new CollisionHandlerTable();
+        collisionHandlers.register(CHECKPOINT_IMG, this::isWin);
+        collisionHandlers.register(SALT_IMG, this::isDangerousPlatform);
+        collisionHandlers.register(BROOM_IMG, this::isBroom);
+        if (level.getAllGameObjects().size() >= ENTITY_STORE_THRESHOLD) {
+            level.enableEntityStore();
+        }
+        level.savePreviousPositions();
+    }
+
+    /**
+     * The constructor to create a LevelSimulation with the default number of lives.
+     * @param level the level to be played
+     * @param player the player, which is not one of the level's GameObjects
+     * @param maxDepth the y position below which the player falls out of the level
+     */
+    public LevelSimulation(Level level, SimplePlayer player, double maxDepth) {
+        this(level, player, maxDepth, DEFAULT_LIVES);
+    }
+
+    /**
+     * Sets what happens each time the player loses a life.
+     * @param onLifeLost the action to be run
+     */
+    public void setOnLifeLost(Runnable onLifeLost) {
+        this.onLifeLost = onLifeLost;
+    }
+
+    /**
+     * Sets what happens when the player reaches a checkpoint.
+     * @param onWin the action to be run
+     */
+    public void setOnWin(Runnable onWin) {
+        this.onWin = onWin;
+    }
+
+    /**
+     * Gets the handlers that are run when the player touches an object, by the kind of the object.
+     * @return the collision handlers
+     */
+    public CollisionHandlerTable getCollisionHandlers() {
+        return collisionHandlers;
+    }
+
+    /**
+     * Passes a single key input to the player.
+     * @param code the key input
+     */
+    public void handleInput(KeyCode code) {
+        player.handleInput(code);
+    }
+
+    /**
+     * Advances the simulation by a tick of the default length.
+     */
+    public void step() {
+        step(GameSeqController.FRAME_DURATION);
+    }
+
+    /**
+     * Advances the simulation by one tick. Speeds are tuned for ticks of GameSeqController.FRAME_DURATION, so they are
+     * scaled to the length of the tick.
+     * @param elapsedTime the length of the tick, in milliseconds
+     */
+    public void step(double elapsedTime) {
+        double frames = elapsedTime / GameSeqController.FRAME_DURATION;
+        player.savePreviousPosition();
+        level.savePreviousPositions();
+        level.updateMovingObjects();
+        move(player, player.getXSpeed() * frames, player.getYSpeed() * frames);
+        if (player.getY() > maxDepth) {
+            loseLife();
+        }
+        else if (!playerObjectCollisions()) {
+            gravity(player, frames);
+        }
+        updateEnemyPositions(frames);
+    }
+
+    /**
+     * Plays the level with scripted input. Before each tick, the next group of key inputs is passed to the player. The
+     * simulation stops when the level is won, the player runs out of lives, or the tick limit is reached; once the
+     * script runs out, ticks continue without input.
+     * @param inputs the key inputs to be pressed before each tick
+     * @param maxTicks the maximum number of ticks to run
+     * @return the number of ticks that were run
+     */
+    public int run(Iterator<? extends Collection<KeyCode>> inputs, int maxTicks) {
+        int ticks = 0;
+        while (ticks < maxTicks && !isOver()) {
+            if (inputs.hasNext()) {
+                for (KeyCode code : inputs.next()) {
+                    handleInput(code);
+                }
+            }
+            step();
+            ticks++;
+        }
+        return ticks;
+    }
+
+    /**
+     * Returns whether the player has reached a checkpoint.
+     * @return whether the level has been won
+     */
+    public boolean hasWon() {
+        return hasWon;
+    }
+
+    /**
+     * Returns whether the player has run out of lives.
+     * @return whether the level has been lost
+     */
+    public boolean hasLost() {
+        return lives <= 0;
+    }
+
+    /**
+     * Returns whether the level has either been won or lost.
+     * @return whether the level is over
+     */
+    public boolean isOver() {
+        return hasWon() || hasLost();
+    }
+
+    /**
+     * Gets the number of lives the player has left.
+     * @return the number of lives
+     */
+    public int getLives() {
+        return lives;
+    }
+
+    /**
+     * Gets the level being played.
+     * @return the level
+     */
+    public Level getLevel() {
+        return level;
+    }
+
+    /**
+     * Gets the player.
+     * @return the player
+     */
+    public SimplePlayer getPlayer() {
+        return player;
+    }
+
+    // if the player is intersecting with an object, it stops and is affected by that object
+    private boolean playerObjectCollisions() {
+        for (GameObject g : level.getNearbyObjects(player.getX(), player.getY())) {
+            if (player.intersects(g)) {
+                player.setYSpeed(0);
+                player.setXSpeed(0);
+                collisionHandlers.handle(g);
+                isEnemy(g);
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void gravity(GameObject gameObject, double frames) {
+        gameObject.setYSpeed(gameObject.getYSpeed() + (GRAVITY * frames));
+    }
+
+    private void move(GameObject gameObject, double xDelta, double yDelta) {
+        gameObject.setX(gameObject.getX() + xDelta);
+        gameObject.setY(gameObject.getY() + yDelta);
+    }
+
+    // if hit enemy, lose life + knockback
+    private void isEnemy(GameObject gameObject) {
+        if (gameObject instanceof Opponent) {
+            loseLife();
+        }
+    }
+
+    // if you hit a checkpoint you win
+    private void isWin(GameObject gameObject) {
+        hasWon = true;
+        onWin.run();
+    }
+
+    private void isBroom(GameObject gameObject) {
+        player.setY(player.getY() + SUPER_JUMP);
+    }
+
+    // lose life + knock back if hit on salt
+    private void isDangerousPlatform(GameObject gameObject) {
+        loseLife();
+    }
+
+    private void updateEnemyPositions(double frames) {
+        for (Enemy enemy : level.getEnemies())
+            updateEnemyPosition(enemy, frames);
+    }
+
+    private void updateEnemyPosition(Enemy enemy, double frames) {
+        if (enemy.getY() > maxDepth) {
+            enemy.respawn();
+            enemy.savePreviousPosition();
+        } else if (!checkAttached(enemy)) {
+            enemy.setY(enemy.getY() + ENEMY_FALL_SPEED * frames);
+        } else
+            enemy.updateLogic(player, frames);
+        level.updateObject(enemy);
+    }
+
+    // checks if the enemy is attached to something that's not a player or enemy
+    private boolean checkAttached(Enemy enemy) {
+        EntityStore store = level.getEntityStore();
+        for (GameObject g : level.getNearbyObjects(enemy.getX(), enemy.getY())) {
+            if (g == enemy)
+                continue;
+            if (store != null && g.getEntityStore() == store) {
+                if (!store.hasType(g.getSlot(), EntityStore.ENEMY | EntityStore.PLAYER) &&
+                        store.intersects(g.getSlot(), enemy.getX(), enemy.getY()))
+                    return true;
+            } else if (!(g instanceof Enemy) && !(g instanceof Player) && g.intersects(enemy))
+                return true;
+        }
+        return false;
+    }
+
+    private void loseLife() {
+        lives--;
+        respawn();
+        onLifeLost.run();
+    }
+
+    // after the player loses a life, they are sent back to the starting location
+    private void respawn() {
+        player.setX(initialX);
+        player.setY(initialY);
+        player.savePreviousPosition();
+    }
+}
@@ -0,0 +1,67 @@
+package engine.leveldirectory.graphicsengine;
+
+import builder.stage.TilePaneDimensions;
+import engine.gameobject.GameObject;
+import engine.view.ImageCreator;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.layout.Pane;
+
+import java.util.List;
+
+/**
+ * This class draws every object onto a single Canvas, so that a level with thousands of objects on screen does not need
+ * thousands of nodes. The canvas covers the screen and is moved along with the part of the game play pane that is on
+ * screen; each frame it is cleared and every visible object is drawn again, using the Images cached by ImageCreator.
+ *
+ * Objects are drawn one tile in size and mirrored when facing left, as their GameObjectViews would be.
+ */
+public class CanvasRenderer implements GameRenderer {
+
+    private Pane gamePlayPane;
+    private TilePaneDimensions dimensions;
+    private Canvas canvas;
+
+    /**
+     * The constructor to create a CanvasRenderer, which adds its canvas to the game play pane.
+     * @param gamePlayPane the pane that the canvas is added to
+     * @param dimensions the dimensions of the level, which determine the size of its tiles and of the screen
+     */
+    public CanvasRenderer(Pane gamePlayPane, TilePaneDimensions dimensions) {
+        this.gamePlayPane = gamePlayPane;
+        this.dimensions = dimensions;
+        canvas = new Canvas(dimensions.getScreenWidth(), dimensions.getScreenHeight());
+        gamePlayPane.getChildren().add(canvas);
+    }
+
+    @Override
+    public void render(List<GameObject> visibleObjects, double alpha) {
+        double canvasX = -1 * gamePlayPane.getTranslateX();
+        double canvasY = -1 * gamePlayPane.getTranslateY();
+        canvas.setLayoutX(canvasX);
+        canvas.setLayoutY(canvasY);
+        GraphicsContext graphicsContext = canvas.getGraphicsContext2D();
+        graphicsContext.clearRect(0, 0, canvas.getWidth(), canvas.getHeight());
+        double tileWidth = dimensions.getTileWidth();
+        double tileHeight = dimensions.getTileHeight();
+        for (GameObject g : visibleObjects) {
+            double x = (g.isStationary() ? g.getX() : g.getInterpolatedX(alpha)) * tileWidth - canvasX;
+            double y = (g.isStationary() ? g.getY() : g.getInterpolatedY(alpha)) * tileHeight - canvasY;
+            if (g.getXDirection() < 0) {
+                graphicsContext.save();
+                graphicsContext.translate(x + tileWidth, y);
+                graphicsContext.scale(-1, 1);
+                graphicsContext.drawImage(ImageCreator.makeImage(g.getImgPath()), 0, 0, tileWidth, tileHeight);
+                graphicsContext.restore();
+            }
+            else {
+                graphicsContext.drawImage(ImageCreator.makeImage(g.getImgPath()), x, y, tileWidth, tileHeight);
+            }
+        }
+    }
+
+    @Override
+    public void clear() {
+        gamePlayPane.getChildren().remove(canvas);
+    }
+}
@@ -0,0 +1,29 @@
+package engine.leveldirectory.graphicsengine;
+
+import engine.gameobject.GameObject;
+
+import java.util.List;
+
+/**
+ * This is an interface that requires the classes that implement it to define how the objects of a level are drawn on
+ * the game play pane during game play.
+ *
+ * Renderers are only given the objects that are on screen, so anything a renderer has drawn for an object that it is
+ * no longer given must be removed. A renderer adds its nodes to the game play pane when it is created, before the
+ * player's view, so what it draws stays behind the player.
+ */
+public interface GameRenderer {
+
+    /**
+     * Draws the objects that are on screen, drawing moving objects part way between their positions at the start and
+     * end of the last simulation tick.
+     * @param visibleObjects the objects that are on screen
+     * @param alpha how far between the two positions to draw moving objects, from 0 to 1
+     */
+    void render(List<GameObject> visibleObjects, double alpha);
+
+    /**
+     * Removes everything that this renderer has added to the game play pane.
+     */
+    void clear();
+}
@@ -0,0 +1,105 @@
+package engine.leveldirectory.graphicsengine;
+
+import builder.stage.TilePaneDimensions;
+import engine.gameobject.GameObject;
+import engine.view.GameObjectView;
+import javafx.collections.ObservableList;
+import javafx.scene.Group;
+import javafx.scene.Node;
+import javafx.scene.layout.Pane;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * This class draws each object as its own GameObjectView node on the game play pane. Views are kept between frames
+ * while their objects stay on screen, so only their position and orientation are updated, and are created or removed
+ * as objects come into or leave view.
+ *
+ * The views are kept in a Group of their own, in the order of their objects in the level, so that objects overlap in
+ * the same order however they came into view. The Group is added to the game play pane once, so views never end up in
+ * front of the player.
+ */
+public class NodeRenderer implements GameRenderer {
+
+    private Pane gamePlayPane;
+    private TilePaneDimensions dimensions;
+    private Group viewGroup;
+    private Map<GameObject, GameObjectView> gameObjectViews;
+
+    /**
+     * The constructor to create a NodeRenderer, which adds the Group that holds its views to the game play pane.
+     * @param gamePlayPane the pane that the views are added to
+     * @param dimensions the dimensions of the level, which determine the size of its tiles
+     */
+    public NodeRenderer(Pane gamePlayPane, TilePaneDimensions dimensions) {
+        this.gamePlayPane = gamePlayPane;
+        this.dimensions = dimensions;
+        viewGroup = new Group();
+        gamePlayPane.getChildren().add(viewGroup);
+        gameObjectViews = new IdentityHashMap<>();
+    }
+
+    /**
+     * Draws the objects that are on screen. The objects must be given in the order they are in the level, as
+     * Level.getObjectsInRegion() returns them.
+     */
+    @Override
+    public void render(List<GameObject> visibleObjects, double alpha) {
+        Map<GameObject, GameObjectView> visibleViews = new IdentityHashMap<>();
+        List<GameObjectView> orderedViews = new ArrayList<>(visibleObjects.size());
+        Set<GameObjectView> newViews = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (GameObject g : visibleObjects) {
+            GameObjectView gameObjectView = gameObjectViews.remove(g);
+            if (gameObjectView == null) {
+                gameObjectView = createGameObjectView(g, dimensions);
+                newViews.add(gameObjectView);
+            }
+            visibleViews.put(g, gameObjectView);
+            orderedViews.add(gameObjectView);
+            double x = g.isStationary() ? g.getX() : g.getInterpolatedX(alpha);
+            double y = g.isStationary() ? g.getY() : g.getInterpolatedY(alpha);
+            gameObjectView.updatePos(x * dimensions.getTileWidth(), y * dimensions.getTileHeight());
+            gameObjectView.updateOrientation(g.getXDirection());
+        }
+        removeViews();
+        // the remaining views are already in level order, so each new view can be inserted at its final position
+        ObservableList<Node> children = viewGroup.getChildren();
+        for (int index = 0; index < orderedViews.size(); index++) {
+            if (newViews.contains(orderedViews.get(index))) {
+                children.add(index, orderedViews.get(index));
+            }
+        }
+        gameObjectViews = visibleViews;
+    }
+
+    @Override
+    public void clear() {
+        removeViews();
+        gamePlayPane.getChildren().remove(viewGroup);
+    }
+
+    /**
+     * Creates a view for an object, sized to one tile of a level.
+     * @param gameObject the object
+     * @param dimensions the dimensions of the level
+     * @return the view
+     */
+    public static GameObjectView createGameObjectView(GameObject gameObject, TilePaneDimensions dimensions) {
+        GameObjectView gameObjectView = new GameObjectView(gameObject.getImgPath(), gameObject.getX(), gameObject.getY(),
+                gameObject.getWidth(), gameObject.getHeight(), gameObject.getXDirection());
+        gameObjectView.convertAttributesToGridBased(dimensions.getTileWidth(), dimensions.getTileHeight());
+        return gameObjectView;
+    }
+
+    private void removeViews() {
+        for (GameObjectView gameObjectView : gameObjectViews.values()) {
+            viewGroup.getChildren().remove(gameObjectView);
+        }
+        gameObjectViews.clear();
+    }
+}
@@ -0,0 +1,47 @@
+package engine.leveldirectory.graphicsengine;
+
+import builder.stage.TilePaneDimensions;
+import javafx.scene.layout.Pane;
+
+/**
+ * This is an enum of the ways that a level can be drawn during game play, which can be chosen for each level with the
+ * "renderer" entry of its dimensions. Levels without one are drawn with nodes.
+ */
+public enum RendererType {
+    NODE("node"), CANVAS("canvas");
+
+    private String key;
+
+    RendererType(String key) {
+        this.key = key;
+    }
+
+    /**
+     * Finds the RendererType with a name, as given in the dimensions file.
+     * @param key the name of the renderer, or null
+     * @return the RendererType, or NODE if there is none with the name
+     */
+    public static RendererType forKey(String key) {
+        for (RendererType rendererType : values()) {
+            if (rendererType.key.equals(key)) {
+                return rendererType;
+            }
+        }
+        return NODE;
+    }
+
+    /**
+     * Creates a renderer of this type.
+     * @param gamePlayPane the pane that the level is drawn on
+     * @param dimensions the dimensions of the level
+     * @return the renderer
+     */
+    public GameRenderer createRenderer(Pane gamePlayPane, TilePaneDimensions dimensions) {
+        switch (this) {
+            case CANVAS:
+                return new CanvasRenderer(gamePlayPane, dimensions);
+            default:
+                return new NodeRenderer(gamePlayPane, dimensions);
+        }
+    }
+}
@@ -2,14 +2,35 @@ package engine.leveldirectory.level;
 
 import builder.bank.BankController;
 import builder.stage.TilePaneDimensions;
+import engine.gameobject.EntityStore;
 import engine.gameobject.GameObject;
+import engine.gameobject.opponent.Enemy;
+import engine.gameobject.platform.CheckPoint;
+import engine.gameobject.platform.Goal;
+import engine.gameobject.platform.MovingPlatform;
+import engine.gameobject.platform.Start;
+import engine.gameobject.platform.StationaryHazardPlatform;
+import engine.leveldirectory.graphicsengine.RendererType;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 /**
  * This class defines the basic level object. It contains the mutable and immutable objects within a level and
  * supports add and remove methods.
  *
+ * The level also keeps its objects in a SpatialHash so that collision checks can be limited to nearby objects.
+ * Stationary objects are placed in this grid once, while moving objects are moved between its cells through
+ * updateObject() and updateMovingObjects().
+ *
+ * Objects are also sorted into buckets by type (e.g. enemies or hazards), which stay current as objects are added and
+ * removed, so that a pass that only cares about one type of object does not need to check every object in the level.
+ * An object can be in more than one bucket; a hazard, for example, is also a stationary object.
+ *
+ * For very large levels, the state of every object can optionally be moved into an EntityStore, which allows passes
+ * over the whole level to run as loops over primitive arrays.
+ *
  * @author Jerry Huang
  */
 public class Level implements LevelInterface {
@@ -18,13 +39,26 @@ public class Level implements LevelInterface {
      * holds all the objects in the level
      */
     private List<GameObject> gameObjects;
+    private List<GameObject> movingObjects;
+    private List<GameObject> stationaryObjects;
+    private List<MovingPlatform> movingPlatforms;
+    private List<Enemy> enemies;
+    private List<StationaryHazardPlatform> hazards;
+    private List<GameObject> goals;
+    private List<Start> starts;
+    private List<GameObject> players;
+    private SpatialHash spatialHash;
+    private EntityStore entityStore;
     private BankController bankController;
     private TilePaneDimensions dimensions;
+    private int modificationCount;
+    private RendererType rendererType = RendererType.NODE;
 
     public Level(List<GameObject> gameObjects, BankController bankController, TilePaneDimensions dimensions) {
         this.gameObjects = gameObjects;
         this.bankController = bankController;
         this.dimensions = dimensions;
+        indexGameObjects();
     }
 
     @Override
@@ -42,6 +76,22 @@ public class Level implements LevelInterface {
         return dimensions;
     }
 
+    /**
+     * Returns how this level is drawn during game play.
+     * @return the type of renderer that draws this level
+     */
+    public RendererType getRendererType() {
+        return rendererType;
+    }
+
+    /**
+     * Sets how this level is drawn during game play.
+     * @param rendererType the type of renderer to draw this level with
+     */
+    public void setRendererType(RendererType rendererType) {
+        this.rendererType = rendererType;
+    }
+
     /**
      * adds an immutable object to the level
      * @param o
@@ -49,10 +99,16 @@ public class Level implements LevelInterface {
     @Override
     public void addGameObject(GameObject o) {
         gameObjects.add(o);
+        index(o);
+        modificationCount++;
     }
 
     public void addGameObject(List<GameObject> listOfObjects) {
         gameObjects.addAll(listOfObjects);
+        for (GameObject o : listOfObjects) {
+            index(o);
+        }
+        modificationCount++;
     }
 
     public List<GameObject> getAllGameObjects() {
@@ -61,16 +117,253 @@ public class Level implements LevelInterface {
 
     public void setGameObjects(List<GameObject> gameObjects) {
         this.gameObjects = gameObjects;
+        indexGameObjects();
+        modificationCount++;
     }
 
     /**
      * corresponding remove methods
      */
     public boolean removeObject(GameObject o) {
-        return gameObjects.remove(o);
+        int index = indexOfIdentical(o);
+        if (index < 0) {
+            index = gameObjects.indexOf(o);
+        }
+        if (index < 0) {
+            return false;
+        }
+        unindex(gameObjects.remove(index));
+        modificationCount++;
+        return true;
     }
 
     public boolean removeObject(List<GameObject> o) {
-        return gameObjects.removeAll(o);
+        boolean removed = false;
+        for (GameObject g : o) {
+            removed |= removeObject(g);
+        }
+        return removed;
+    }
+
+    /**
+     * Returns the stationary objects in this level, including its hazards, goals and start.
+     * @return the stationary objects
+     */
+    public List<GameObject> getStationaryObjects() {
+        return stationaryObjects;
+    }
+
+    /**
+     * Returns the moving platforms in this level.
+     * @return the moving platforms
+     */
+    public List<MovingPlatform> getMovingPlatforms() {
+        return movingPlatforms;
+    }
+
+    /**
+     * Returns the enemies in this level.
+     * @return the enemies
+     */
+    public List<Enemy> getEnemies() {
+        return enemies;
+    }
+
+    /**
+     * Returns the platforms in this level that are dangerous to touch.
+     * @return the hazards
+     */
+    public List<StationaryHazardPlatform> getHazards() {
+        return hazards;
+    }
+
+    /**
+     * Returns the goals and checkpoints in this level.
+     * @return the goals
+     */
+    public List<GameObject> getGoals() {
+        return goals;
+    }
+
+    /**
+     * Returns the start of this level, where the player is placed.
+     * @return the start, or null if this level has none
+     */
+    public Start getStart() {
+        return starts.isEmpty() ? null : starts.get(starts.size() - 1);
+    }
+
+    /**
+     * Returns the players that have been placed in this level.
+     * @return the players
+     */
+    public List<GameObject> getPlayers() {
+        return players;
+    }
+
+    /**
+     * Returns a count that changes whenever objects are added to or removed from this level, allowing views of the
+     * level to detect membership changes without comparing every object.
+     * @return the modification count
+     */
+    public int getModificationCount() {
+        return modificationCount;
+    }
+
+    /**
+     * Returns the objects that are close enough to a position to possibly be touching an object placed there.
+     * @param x the x position, in tiles
+     * @param y the y position, in tiles
+     * @return the nearby objects
+     */
+    public List<GameObject> getNearbyObjects(double x, double y) {
+        return spatialHash.getNearbyObjects(x, y);
+    }
+
+    /**
+     * Returns the objects positioned in a rectangular region of this level, such as the part that is on screen.
+     * @param minX the smallest x position, in tiles
+     * @param maxX the largest x position, in tiles
+     * @param minY the smallest y position, in tiles
+     * @param maxY the largest y position, in tiles
+     * @return the objects in the region, in the order they are in this level
+     */
+    public List<GameObject> getObjectsInRegion(double minX, double maxX, double minY, double maxY) {
+        return spatialHash.getObjectsInRegion(minX, maxX, minY, maxY);
+    }
+
+    /**
+     * Keeps the spatial index current after an object in this level has moved.
+     * @param o the object that moved
+     */
+    public void updateObject(GameObject o) {
+        spatialHash.update(o);
+    }
+
+    /**
+     * Keeps the spatial index current for every moving object in this level.
+     */
+    public void updateMovingObjects() {
+        for (GameObject o : movingObjects) {
+            spatialHash.update(o);
+        }
+    }
+
+    /**
+     * Records the current position of every moving object in this level, for interpolation between simulation ticks.
+     */
+    public void savePreviousPositions() {
+        if (entityStore != null) {
+            entityStore.savePreviousPositions();
+            return;
+        }
+        for (GameObject o : movingObjects) {
+            o.savePreviousPosition();
+        }
+    }
+
+    /**
+     * Moves the state of every object in this level into an EntityStore, which is kept current as objects are added
+     * and removed. This is meant for levels with tens of thousands of objects; smaller levels gain little from it.
+     */
+    public void enableEntityStore() {
+        if (entityStore != null) {
+            return;
+        }
+        entityStore = new EntityStore(gameObjects.size());
+        for (GameObject o : gameObjects) {
+            entityStore.add(o);
+        }
+    }
+
+    /**
+     * Returns the EntityStore that holds the state of this level's objects.
+     * @return the EntityStore, or null if it has not been enabled
+     */
+    public EntityStore getEntityStore() {
+        return entityStore;
+    }
+
+    private void indexGameObjects() {
+        if (entityStore != null) {
+            entityStore.clear();
+        }
+        movingObjects = new ArrayList<>();
+        stationaryObjects = new ArrayList<>();
+        movingPlatforms = new ArrayList<>();
+        enemies = new ArrayList<>();
+        hazards = new ArrayList<>();
+        goals = new ArrayList<>();
+        starts = new ArrayList<>();
+        players = new ArrayList<>();
+        spatialHash = createSpatialHash();
+        for (GameObject o : gameObjects) {
+            index(o);
+        }
+    }
+
+    private SpatialHash createSpatialHash() {
+        if (dimensions != null) {
+            return new SpatialHash(dimensions);
+        }
+        int minX = 0, maxX = 0, minY = 0, maxY = 0;
+        for (GameObject o : gameObjects) {
+            minX = Math.min(minX, (int) Math.floor(o.getX()));
+            maxX = Math.max(maxX, (int) Math.floor(o.getX()));
+            minY = Math.min(minY, (int) Math.floor(o.getY()));
+            maxY = Math.max(maxY, (int) Math.floor(o.getY()));
+        }
+        return new SpatialHash(minX, maxX, minY, maxY);
+    }
+
+    private void index(GameObject o) {
+        if (entityStore != null) {
+            entityStore.add(o);
+        }
+        spatialHash.add(o);
+        if (!o.isStationary()) {
+            movingObjects.add(o);
+        }
+        else {
+            stationaryObjects.add(o);
+        }
+        if (o instanceof MovingPlatform) {
+            movingPlatforms.add((MovingPlatform) o);
+        }
+        if (o instanceof Enemy) {
+            enemies.add((Enemy) o);
+        }
+        if (o instanceof StationaryHazardPlatform) {
+            hazards.add((StationaryHazardPlatform) o);
+        }
+        if (o instanceof Goal || o instanceof CheckPoint) {
+            goals.add(o);
+        }
+        if (o instanceof Start) {
+            starts.add((Start) o);
+        }
+        if (o.isPlayer()) {
+            players.add(o);
+        }
+    }
+
+    private void unindex(GameObject o) {
+        if (entityStore != null) {
+            entityStore.remove(o);
+        }
+        spatialHash.remove(o);
+        for (List<? extends GameObject> bucket : Arrays.asList(movingObjects, stationaryObjects, movingPlatforms,
+                enemies, hazards, goals, starts, players)) {
+            bucket.removeIf(bucketObject -> bucketObject == o);
+        }
+    }
+
+    private int indexOfIdentical(GameObject o) {
+        for (int index = 0; index < gameObjects.size(); index++) {
+            if (gameObjects.get(index) == o) {
+                return index;
+            }
+        }
+        return -1;
     }
 }
@@ -1,21 +1,43 @@
 package engine.leveldirectory.level;
 
+import builder.bank.BankController;
+import builder.bank.BankModel;
+import builder.stage.TilePaneDimensions;
+import data.ErrorLogger;
 import data.ReadSaveException;
 import data.levels.LevelData;
+import engine.gameobject.GameObject;
 import engine.general.Game;
+import engine.leveldirectory.graphicsengine.RendererType;
 import engine.leveldirectory.hud.HUDModel;
 
-import java.lang.reflect.InvocationTargetException;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 /**
  * The LevelContainer class holds all the levels and transition scenes for the current game
  *
+ * Levels are loaded from the level data the first time they are accessed rather than all at once, so that starting the
+ * game does not require every level to be built. The current level is loaded when the game moves to it, so moving to a
+ * level that cannot be loaded fails with a LevelLoadException and leaves the current level as it was. A level that is
+ * no longer needed can be evicted and will be loaded again if it is accessed later; the previous level is evicted
+ * whenever the game moves on to the next one.
+ *
+ * The game itself only ever needs the current level, so it never loads levels in parallel. For callers that do need
+ * every level at once (e.g. to check that each one loads), getLevels() and loadLevelsInParallel() read the levels on a
+ * pool of threads, one per core, and then put them in order. Only the levels' objects, banks and dimensions are read on
+ * the pool; the banks' frontends are created on the calling thread.
+ *
  * @author Jerry Huang
  */
 public class LevelContainer {
     private List<Level> levels;
+    private LevelData levelData;
     private int currentLevel;
     private int totalNumLevels;
     private final Game game;
@@ -31,18 +53,20 @@ public class LevelContainer {
     }
 
     /**
-     * Loads in the level layouts from the Resource folder
+     * Finds the level layouts in the Resource folder. Each level is only loaded once it is accessed.
+     */
+    public void loadLevels() {
+        loadLevels(new LevelData());
+    }
+
+    /**
+     * Finds the level layouts in level data other than the game's own. Each level is only loaded once it is accessed.
+     * @param levelData the level data
      */
-    public void loadLevels() throws ReadSaveException, ClassNotFoundException, NoSuchMethodException,
-            InstantiationException, IllegalAccessException, InvocationTargetException {
-        LevelData levelData = new LevelData();
+    public void loadLevels(LevelData levelData) {
+        this.levelData = levelData;
         totalNumLevels = levelData.getNumLevels();
-        List<Level> levels = new ArrayList<>();
-        for (int i = 0; i < totalNumLevels; i++) {
-            Level levelTemp = new Level(levelData.getSavedLevel(i), levelData.getBank(i), levelData.getDimensions(i));
-            levels.add(levelTemp);
-        }
-        this.levels = levels;
+        levels = new ArrayList<>(Collections.nCopies(totalNumLevels, null));
     }
 
     public void addLevel(Level level) {
@@ -53,29 +77,156 @@ public class LevelContainer {
         return currentLevel;
     }
 
+    /**
+     * Gets the current level, which was loaded when the game moved to it with setCurrentLevel() or incrementLevel().
+     * @return the current level
+     */
     public Level getCurrentLevel() {
         return levels.get(currentLevel);
     }
 
+    /**
+     * Gets a level, loading it if it has not been loaded or has been evicted.
+     * @param i the level number
+     * @return the level
+     * @throws LevelLoadException if the level cannot be loaded; it is left unloaded, so accessing it again retries
+     */
+    public Level getLevel(int i) throws LevelLoadException {
+        Level level = levels.get(i);
+        if (level == null) {
+            try {
+                level = readLevel(i).build();
+            } catch (ReadSaveException | ReflectiveOperationException e) {
+                throw new LevelLoadException(i, e);
+            }
+            levels.set(i, level);
+        }
+        return level;
+    }
+
+    /**
+     * Gets every level, loading any that have not been loaded. A level that cannot be loaded is logged and replaced in
+     * the returned list by an empty level with no bank, which is only there to report the failure and is never played
+     * or built upon.
+     * @return the levels
+     */
     public List<Level> getLevels() {
-        return levels;
+        List<Level> loadedLevels = new ArrayList<>(levels);
+        for (LevelLoadException failure : loadLevelsInParallel()) {
+            loadedLevels.set(failure.getLevel(), failedLevel(failure));
+        }
+        return loadedLevels;
+    }
+
+    /**
+     * Loads every level that has not been loaded, reading them concurrently. A level that cannot be loaded is left
+     * unloaded, as in getLevel(), without affecting the others.
+     * @return the failures, one for each level that could not be loaded, in level order
+     */
+    public List<LevelLoadException> loadLevelsInParallel() {
+        List<Integer> pending = new ArrayList<>();
+        for (int i = 0; i < levels.size(); i++) {
+            if (levels.get(i) == null) pending.add(i);
+        }
+        List<LevelLoadException> failures = new ArrayList<>();
+        if (pending.isEmpty()) return failures;
+        int threads = Math.min(pending.size(), Runtime.getRuntime().availableProcessors());
+        ExecutorService executor = Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "LevelLoader");
+            thread.setDaemon(true);
+            return thread;
+        });
+        try {
+            List<Future<ReadLevel>> readLevels = new ArrayList<>();
+            for (int i : pending) {
+                readLevels.add(executor.submit(() -> readLevel(i)));
+            }
+            for (int index = 0; index < pending.size(); index++) {
+                int i = pending.get(index);
+                try {
+                    levels.set(i, readLevels.get(index).get().build());
+                } catch (ExecutionException e) {
+                    failures.add(new LevelLoadException(i, e.getCause()));
+                } catch (ReadSaveException e) {
+                    failures.add(new LevelLoadException(i, e));
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            executor.shutdownNow();
+        }
+        return failures;
+    }
+
+    private ReadLevel readLevel(int i) throws ReadSaveException, ReflectiveOperationException {
+        return new ReadLevel(i, levelData.getSavedLevel(i), levelData.getBankModel(i), levelData.getDimensions(i));
     }
 
-    public void incrementLevel() {
+    private Level failedLevel(LevelLoadException failure) {
+        ErrorLogger.log(failure);
+        return new Level(new ArrayList<>(), null, levelData.getDimensions(failure.getLevel()));
+    }
+
+    /**
+     * Releases a loaded level so that its objects can be garbage collected. Levels that were added rather than loaded
+     * from the level data, and the current level, cannot be evicted.
+     * @param i the level number
+     */
+    public void evictLevel(int i) {
+        if (i >= 0 && i < totalNumLevels && i != currentLevel) {
+            levels.set(i, null);
+        }
+    }
+
+    /**
+     * Moves on to the next level, loading it and evicting the previous one.
+     * @throws LevelLoadException if the next level cannot be loaded, in which case the current level does not change
+     */
+    public void incrementLevel() throws LevelLoadException {
+        getLevel(currentLevel + 1);
         currentLevel++;
+        evictLevel(currentLevel - 1);
     }
 
     public Game getGame() {
         return this.game;
     }
 
-    public void setCurrentLevel(int i) {
+    /**
+     * Moves to a level, loading it.
+     * @param i the level number
+     * @throws LevelLoadException if the level cannot be loaded, in which case the current level does not change
+     */
+    public void setCurrentLevel(int i) throws LevelLoadException {
+        getLevel(i);
         currentLevel = i;
     }
 
     public int getTotalNumLevels() {
         return totalNumLevels;
     }
-}
 
+    /**
+     * The parts of a level that have been read from the level data, before the level's bank frontend is created
+     */
+    private class ReadLevel {
+        private final int number;
+        private final List<GameObject> gameObjects;
+        private final BankModel bankModel;
+        private final TilePaneDimensions dimensions;
 
+        private ReadLevel(int number, List<GameObject> gameObjects, BankModel bankModel, TilePaneDimensions dimensions) {
+            this.number = number;
+            this.gameObjects = gameObjects;
+            this.bankModel = bankModel;
+            this.dimensions = dimensions;
+        }
+
+        private Level build() throws ReadSaveException {
+            Level level = new Level(gameObjects, new BankController(bankModel, levelData.getBankView(number)), dimensions);
+            level.setRendererType(RendererType.forKey(levelData.getRenderer(number)));
+            return level;
+        }
+    }
+}
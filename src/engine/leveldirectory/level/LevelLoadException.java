@@ -0,0 +1,21 @@
+package engine.leveldirectory.level;
+
+/**
+ * Thrown when a level cannot be loaded from the level data. It records which level failed, so that when several levels
+ * are loaded together each failure can be reported on its own.
+ */
+public class LevelLoadException extends Exception {
+
+    private static final long serialVersionUID = 1L;
+    private static final String message = "Failed to load level %d";
+    private int level;
+
+    public LevelLoadException(int level, Throwable cause) {
+        super(String.format(message, level), cause);
+        this.level = level;
+    }
+
+    public int getLevel() {
+        return level;
+    }
+}
@@ -0,0 +1,216 @@
+package engine.leveldirectory.level;
+
+import builder.stage.TilePaneDimensions;
+import engine.gameobject.GameObject;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * This class is a uniform grid that buckets the GameObjects of a level by the tile they are positioned in. It allows
+ * collision checks to only consider the objects in the tiles surrounding a position instead of every object in a level.
+ *
+ * The grid is sized from the level's dimensions, with one cell per tile. Objects positioned outside of these dimensions
+ * (e.g. an enemy that has fallen off of the level) are kept in a single overflow bucket that is checked by every query.
+ *
+ * Every object is drawn as a single tile during game play, so two objects can only touch if the tiles they are positioned
+ * in are adjacent. Queries therefore only need to visit the 3x3 block of cells surrounding a position.
+ *
+ * Queries return objects in the order they were added, which for a Level is the order of its list of objects, so that
+ * callers that act on the first matching object behave as if they had checked the whole list.
+ */
+public class SpatialHash {
+
+    public static final int NEIGHBOR_RANGE = 1;
+    private static final int OVERFLOW = -1;
+
+    private int minX;
+    private int minY;
+    private int tilesWide;
+    private int tilesHigh;
+    private List<List<GameObject>> cells;
+    private List<GameObject> overflow;
+    private Map<GameObject, Entry> entries;
+    private long nextSequence;
+
+    /**
+     * The constructor to create a SpatialHash covering the tiles of a level.
+     * @param dimensions the dimensions of the level
+     */
+    public SpatialHash(TilePaneDimensions dimensions) {
+        this(dimensions.getMinX(), dimensions.getMaxX(), dimensions.getMinY(), dimensions.getMaxY());
+    }
+
+    /**
+     * The constructor to create a SpatialHash covering a range of tiles. Both bounds are inclusive.
+     * @param minX the minimum x tile
+     * @param maxX the maximum x tile
+     * @param minY the minimum y tile
+     * @param maxY the maximum y tile
+     */
+    public SpatialHash(int minX, int maxX, int minY, int maxY) {
+        this.minX = minX;
+        this.minY = minY;
+        this.tilesWide = Math.max(maxX - minX + 1, 0);
+        this.tilesHigh = Math.max(maxY - minY + 1, 0);
+        cells = new ArrayList<>(Collections.nCopies(tilesWide * tilesHigh, (List<GameObject>) null));
+        overflow = new ArrayList<>();
+        entries = new IdentityHashMap<>();
+    }
+
+    /**
+     * Adds a GameObject to the cell of the tile it is positioned in.
+     * @param gameObject the GameObject to be added
+     */
+    public void add(GameObject gameObject) {
+        int cell = getCell(gameObject.getX(), gameObject.getY());
+        getBucket(cell).add(gameObject);
+        entries.put(gameObject, new Entry(cell, nextSequence++));
+    }
+
+    /**
+     * Removes a GameObject from the grid.
+     * @param gameObject the GameObject to be removed
+     */
+    public void remove(GameObject gameObject) {
+        Entry entry = entries.remove(gameObject);
+        if (entry != null) {
+            removeIdentical(getBucket(entry.cell), gameObject);
+        }
+    }
+
+    /**
+     * Moves a GameObject to a new cell if it has moved into a different tile since it was last added or updated.
+     * @param gameObject the GameObject that may have moved
+     */
+    public void update(GameObject gameObject) {
+        Entry entry = entries.get(gameObject);
+        if (entry == null) {
+            return;
+        }
+        int newCell = getCell(gameObject.getX(), gameObject.getY());
+        if (entry.cell != newCell) {
+            removeIdentical(getBucket(entry.cell), gameObject);
+            getBucket(newCell).add(gameObject);
+            entry.cell = newCell;
+        }
+    }
+
+    /**
+     * Removes every GameObject from the grid.
+     */
+    public void clear() {
+        for (List<GameObject> cell : cells) {
+            if (cell != null) {
+                cell.clear();
+            }
+        }
+        overflow.clear();
+        entries.clear();
+    }
+
+    /**
+     * Returns the GameObjects positioned in the tiles surrounding (and including) the tile of a position.
+     * @param x the x position, in tiles
+     * @param y the y position, in tiles
+     * @return the GameObjects that could be touching an object at this position, in the order they were added
+     */
+    public List<GameObject> getNearbyObjects(double x, double y) {
+        List<GameObject> nearbyObjects = new ArrayList<>(overflow);
+        int tileX = (int) Math.floor(x) - minX;
+        int tileY = (int) Math.floor(y) - minY;
+        int startX = Math.max(tileX - NEIGHBOR_RANGE, 0);
+        int endX = Math.min(tileX + NEIGHBOR_RANGE, tilesWide - 1);
+        int startY = Math.max(tileY - NEIGHBOR_RANGE, 0);
+        int endY = Math.min(tileY + NEIGHBOR_RANGE, tilesHigh - 1);
+        for (int cellY = startY; cellY <= endY; cellY++) {
+            for (int cellX = startX; cellX <= endX; cellX++) {
+                List<GameObject> cell = cells.get(cellY * tilesWide + cellX);
+                if (cell != null) {
+                    nearbyObjects.addAll(cell);
+                }
+            }
+        }
+        sortByAddition(nearbyObjects);
+        return nearbyObjects;
+    }
+
+    /**
+     * Returns the GameObjects positioned in a rectangular region of tiles, such as the part of a level that is on screen.
+     * @param minX the smallest x position, in tiles
+     * @param maxX the largest x position, in tiles
+     * @param minY the smallest y position, in tiles
+     * @param maxY the largest y position, in tiles
+     * @return the GameObjects positioned in a tile that overlaps the region, in the order they were added
+     */
+    public List<GameObject> getObjectsInRegion(double minX, double maxX, double minY, double maxY) {
+        List<GameObject> objects = new ArrayList<>();
+        for (GameObject gameObject : overflow) {
+            if (Math.floor(gameObject.getX()) >= Math.floor(minX) && Math.floor(gameObject.getX()) <= maxX &&
+                    Math.floor(gameObject.getY()) >= Math.floor(minY) && Math.floor(gameObject.getY()) <= maxY) {
+                objects.add(gameObject);
+            }
+        }
+        int startX = Math.max((int) Math.floor(minX) - this.minX, 0);
+        int endX = Math.min((int) Math.floor(maxX) - this.minX, tilesWide - 1);
+        int startY = Math.max((int) Math.floor(minY) - this.minY, 0);
+        int endY = Math.min((int) Math.floor(maxY) - this.minY, tilesHigh - 1);
+        for (int cellY = startY; cellY <= endY; cellY++) {
+            for (int cellX = startX; cellX <= endX; cellX++) {
+                List<GameObject> cell = cells.get(cellY * tilesWide + cellX);
+                if (cell != null) {
+                    objects.addAll(cell);
+                }
+            }
+        }
+        sortByAddition(objects);
+        return objects;
+    }
+
+    private int getCell(double x, double y) {
+        int tileX = (int) Math.floor(x) - minX;
+        int tileY = (int) Math.floor(y) - minY;
+        if (tileX < 0 || tileX >= tilesWide || tileY < 0 || tileY >= tilesHigh) {
+            return OVERFLOW;
+        }
+        return tileY * tilesWide + tileX;
+    }
+
+    private List<GameObject> getBucket(int cell) {
+        if (cell == OVERFLOW) {
+            return overflow;
+        }
+        if (cells.get(cell) == null) {
+            cells.set(cell, new ArrayList<>());
+        }
+        return cells.get(cell);
+    }
+
+    private void sortByAddition(List<GameObject> objects) {
+        objects.sort(Comparator.comparingLong(gameObject -> entries.get(gameObject).sequence));
+    }
+
+    // GameObject.equals() compares appearance, so identical-looking objects must be told apart by reference
+    private void removeIdentical(List<GameObject> bucket, GameObject gameObject) {
+        for (int index = 0; index < bucket.size(); index++) {
+            if (bucket.get(index) == gameObject) {
+                bucket.remove(index);
+                return;
+            }
+        }
+    }
+
+    private static class Entry {
+        private int cell;
+        private final long sequence;
+
+        private Entry(int cell, long sequence) {
+            this.cell = cell;
+            this.sequence = sequence;
+        }
+    }
+}
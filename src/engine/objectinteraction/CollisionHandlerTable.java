@@ -0,0 +1,68 @@
+package engine.objectinteraction;
+
+import engine.gameobject.GameObject;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * This class dispatches collisions to handlers based on the kind of the GameObject that was collided with. Handlers are
+ * kept in a list indexed by kind (see ObjectKinds), so finding the handler for a collision is a single list lookup.
+ *
+ * New kinds of hazards or power ups can be given behaviour by registering a handler for their image path, without
+ * changing the code that detects collisions.
+ */
+public class CollisionHandlerTable {
+
+    private List<Consumer<GameObject>> handlers;
+
+    /**
+     * The constructor to create an empty CollisionHandlerTable.
+     */
+    public CollisionHandlerTable() {
+        handlers = new ArrayList<>(Math.max(ObjectKinds.count(), 1));
+    }
+
+    /**
+     * Registers a handler for collisions with GameObjects that have an image path. If a handler has already been
+     * registered for this kind, both are run, in the order they were registered.
+     * @param imgPath the image path of the GameObjects to be handled
+     * @param handler the handler, which is given the GameObject that was collided with
+     */
+    public void register(String imgPath, Consumer<GameObject> handler) {
+        register(ObjectKinds.of(imgPath), handler);
+    }
+
+    /**
+     * Registers a handler for collisions with GameObjects of a kind. If a handler has already been registered for this
+     * kind, both are run, in the order they were registered.
+     * @param kind the kind of the GameObjects to be handled
+     * @param handler the handler, which is given the GameObject that was collided with
+     */
+    public void register(int kind, Consumer<GameObject> handler) {
+        if (kind < 0) {
+            throw new IllegalArgumentException("Invalid object kind: " + kind);
+        }
+        while (kind >= handlers.size()) {
+            handlers.add(null);
+        }
+        Consumer<GameObject> registered = handlers.get(kind);
+        handlers.set(kind, registered == null ? handler : registered.andThen(handler));
+    }
+
+    /**
+     * Runs the handler registered for the kind of a GameObject that was collided with.
+     * @param gameObject the GameObject that was collided with
+     * @return whether a handler was run
+     */
+    public boolean handle(GameObject gameObject) {
+        int kind = gameObject.getKind();
+        Consumer<GameObject> handler = kind < 0 || kind >= handlers.size() ? null : handlers.get(kind);
+        if (handler == null) {
+            return false;
+        }
+        handler.accept(gameObject);
+        return true;
+    }
+}
@@ -0,0 +1,45 @@
+package engine.objectinteraction;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * This class interns the kinds of GameObjects as small integers. A GameObject's kind is defined by its image path, since
+ * that is what distinguishes e.g. a checkpoint from a salt platform in the level files, but comparing these paths on
+ * every collision is slow. Each distinct path is instead given an id once, which can then be compared or used as an
+ * array index.
+ *
+ * Ids are handed out in the order paths are first seen, starting at 0, and are never reused. This class is safe to use
+ * from multiple threads, e.g. while levels are loaded in parallel.
+ */
+public class ObjectKinds {
+
+    public static final int UNKNOWN = -1;
+
+    private static final Map<String, Integer> kinds = new ConcurrentHashMap<>();
+    private static final AtomicInteger nextKind = new AtomicInteger();
+
+    private ObjectKinds() {
+    }
+
+    /**
+     * Returns the kind of the GameObjects with an image path, giving it a new kind if the path has not been seen before.
+     * @param imgPath the image path
+     * @return the kind, or UNKNOWN if the path is null
+     */
+    public static int of(String imgPath) {
+        if (imgPath == null) {
+            return UNKNOWN;
+        }
+        return kinds.computeIfAbsent(imgPath, path -> nextKind.getAndIncrement());
+    }
+
+    /**
+     * Returns the number of kinds that have been handed out; every kind is less than this.
+     * @return the number of kinds
+     */
+    public static int count() {
+        return nextKind.get();
+    }
+}
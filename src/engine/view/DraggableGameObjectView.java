@@ -11,6 +11,10 @@ import javafx.scene.input.MouseEvent;
  * This class is dependent on the image path, position, dimensions, and direction of its associated backend
  * GameObject (although this GameObject is not directly related to/dependent on it).
  *
+ * The view records whether it has changed, i.e. been moved, dragged, clicked, snapped or unsnapped, or had its draggable
+ * feature changed, since it was last marked as unchanged, so that whatever owns it only needs to act on it when it has
+ * changed.
+ *
  * @author Pierce Forte
  */
 public class DraggableGameObjectView extends GameObjectView {
@@ -20,6 +24,7 @@ public class DraggableGameObjectView extends GameObjectView {
     private boolean isReadyForSnap;
     private boolean isDraggable;
     private boolean isOverlapped;
+    private boolean hasChanged;
 
     /**
      * The constructor to create a DraggableGameObjectView.
@@ -34,6 +39,9 @@ public class DraggableGameObjectView extends GameObjectView {
         super(imgPath, xPos, yPos, width, height, xDirection);
         isDraggable = true;
         isReadyForSnap = true;
+        hasChanged = true;
+        xProperty().addListener((observable, oldXPos, newXPos) -> hasChanged = true);
+        yProperty().addListener((observable, oldYPos, newYPos) -> hasChanged = true);
         initializeNodeDragger();
         enableDrag();
     }
@@ -54,6 +62,22 @@ public class DraggableGameObjectView extends GameObjectView {
         this.isOverlapped = isOverlapped;
     }
 
+    /**
+     * Returns whether this ImageView has changed since it was last marked as unchanged, and so must be handled again.
+     * @return whether this ImageView has changed
+     */
+    public boolean hasChanged() {
+        return hasChanged;
+    }
+
+    /**
+     * Sets whether this ImageView has changed, typically to mark it as unchanged once its changes have been handled.
+     * @param hasChanged whether this ImageView has changed
+     */
+    public void setHasChanged(boolean hasChanged) {
+        this.hasChanged = hasChanged;
+    }
+
     /**
      * Returns whether the DraggableGameObjectView is currently draggable.
      * @return whether the DraggableGameObjectView is currently draggable
@@ -84,6 +108,9 @@ public class DraggableGameObjectView extends GameObjectView {
      * @param isSnapped whether the DraggableGameObjectView is snapped to a grid
      */
     public void setIsSnapped(boolean isSnapped) {
+        if (this.isSnapped != isSnapped) {
+            hasChanged = true;
+        }
         this.isSnapped = isSnapped;
     }
 
@@ -92,6 +119,7 @@ public class DraggableGameObjectView extends GameObjectView {
      */
     public void enableDrag() {
         isDraggable = true;
+        hasChanged = true;
         nodeDragger.enableDrag(this);
     }
 
@@ -101,6 +129,7 @@ public class DraggableGameObjectView extends GameObjectView {
      */
     public void disableDrag() {
         isDraggable = false;
+        hasChanged = true;
         nodeDragger.disableDrag(this);
     }
 
@@ -109,21 +138,25 @@ public class DraggableGameObjectView extends GameObjectView {
             @Override
             public void handleDraggableMousePress(MouseEvent mouseEvent, Node node) {
                 super.handleDraggableMousePress(mouseEvent, node);
+                DraggableGameObjectView.this.hasChanged = true;
                 DraggableGameObjectView.this.handleDraggableMousePress();
             }
             @Override
             public void handleDraggableMouseRelease(MouseEvent mouseEvent, Node node) {
                 super.handleDraggableMouseRelease(mouseEvent, node);
+                DraggableGameObjectView.this.hasChanged = true;
                 DraggableGameObjectView.this.handleDraggableMouseRelease();
             }
             @Override
             public void handleDraggableMouseDrag(MouseEvent mouseEvent, Node node) {
                 super.handleDraggableMouseDrag(mouseEvent, node);
+                DraggableGameObjectView.this.hasChanged = true;
                 DraggableGameObjectView.this.handleDraggableMouseDrag();
                 DraggableGameObjectView.this.toFront();
             }
             @Override
             public void handleStationaryMousePress(MouseEvent mouseEvent, Node node) {
+                DraggableGameObjectView.this.hasChanged = true;
                 DraggableGameObjectView.this.handleStationaryMousePress();
             }
         };
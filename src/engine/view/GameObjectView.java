@@ -69,6 +69,14 @@ public class GameObjectView extends ImageView {
         setFitHeight(height);
     }
 
+    /**
+     * Updates the orientation, mirroring the image horizontally when facing left.
+     * @param xDirection the x direction
+     */
+    public void updateOrientation(int xDirection) {
+        setScaleX(xDirection < 0 ? LEFT : RIGHT);
+    }
+
     /**
      * Determines if this GameObjectView overlaps another ImageView.
      * @param b the other ImageView
@@ -6,6 +6,7 @@ import data.user.DuplicateUsernameException;
 import data.user.User;
 
 import engine.general.Game;
+import engine.leveldirectory.level.LevelLoadException;
 import javafx.scene.Scene;
 import javafx.scene.control.Alert;
 import javafx.scene.control.Button;
@@ -16,7 +17,6 @@ import javafx.scene.text.Text;
 import javafx.stage.Stage;
 
 import java.io.IOException;
-import java.lang.reflect.InvocationTargetException;
 import java.util.ResourceBundle;
 
 public class LevelDirectory extends Page {
@@ -74,17 +74,7 @@ public class LevelDirectory extends Page {
         LevelButton.setOnMouseClicked(event -> {
                 try {
                     playSequentialGame();
-                } catch (NoSuchMethodException e) {
-                    ErrorLogger.log(e);
-                } catch (ReadSaveException e) {
-                    ErrorLogger.log(e);
-                } catch (InstantiationException e) {
-                    ErrorLogger.log(e);
-                } catch (IllegalAccessException e) {
-                    ErrorLogger.log(e);
-                } catch (InvocationTargetException e) {
-                    ErrorLogger.log(e);
-                } catch (ClassNotFoundException e) {
+                } catch (LevelLoadException e) {
                     ErrorLogger.log(e);
                 }
             });
@@ -94,17 +84,7 @@ public class LevelDirectory extends Page {
         ResumeSave.setOnMouseClicked(event -> {
             try {
                 buildSavedGame();
-            } catch (NoSuchMethodException e) {
-                ErrorLogger.log(e);
-            } catch (ReadSaveException e) {
-                ErrorLogger.log(e);
-            } catch (InstantiationException e) {
-                ErrorLogger.log(e);
-            } catch (IllegalAccessException e) {
-                ErrorLogger.log(e);
-            } catch (InvocationTargetException e) {
-                ErrorLogger.log(e);
-            } catch (ClassNotFoundException e) {
+            } catch (LevelLoadException e) {
                 ErrorLogger.log(e);
             }
         });
@@ -113,7 +93,7 @@ public class LevelDirectory extends Page {
         return myBox;
     }
 
-    private void buildSavedGame() throws NoSuchMethodException, ReadSaveException, InstantiationException, IllegalAccessException, InvocationTargetException, ClassNotFoundException {
+    private void buildSavedGame() throws LevelLoadException {
         int levelPlay = myPC.getLastLevel();
         if (levelPlay > 0) {
             Game game = new Game(levelPlay, myScene, new BorderPane(), myPC, myPC.getScreenHeight(), myPC.getScreenWidth());
@@ -128,7 +108,7 @@ public class LevelDirectory extends Page {
 
     }
 
-    private void playSequentialGame() throws NoSuchMethodException, ReadSaveException, InstantiationException, IllegalAccessException, InvocationTargetException, ClassNotFoundException {
+    private void playSequentialGame() throws LevelLoadException {
         PlayLevel playLevel = new PlayLevel(myStage, Pages.PlayLevel, myPC);
     }
 
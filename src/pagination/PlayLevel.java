@@ -1,13 +1,12 @@
 package pagination;
 
-import data.ReadSaveException;
 import engine.general.Game;
+import engine.leveldirectory.level.LevelLoadException;
 import javafx.scene.Scene;
 import javafx.scene.layout.BorderPane;
 import javafx.stage.Stage;
 
 import java.io.IOException;
-import java.lang.reflect.InvocationTargetException;
 import java.util.ResourceBundle;
 
 public class PlayLevel extends Page {
@@ -26,7 +25,7 @@ public class PlayLevel extends Page {
      * @param page
      * @return Page
      */
-    public PlayLevel(Stage primaryStage, Pages page, PageController PC) throws NoSuchMethodException, ReadSaveException, InstantiationException, IllegalAccessException, InvocationTargetException, ClassNotFoundException {
+    public PlayLevel(Stage primaryStage, Pages page, PageController PC) throws LevelLoadException {
         super(primaryStage, page);
         myStage = primaryStage;
         myStage.setFullScreen(true);
@@ -51,8 +50,7 @@ public class PlayLevel extends Page {
         return getScene(name);
     }
 
-    Scene buildSpecialScene(int height, int width) throws NoSuchMethodException, ReadSaveException,
-            InstantiationException, IllegalAccessException, InvocationTargetException, ClassNotFoundException {
+    Scene buildSpecialScene(int height, int width) throws LevelLoadException {
         BorderPane myRoot = init_Root(height, width);
         myScene = new Scene(myRoot);
 
@@ -1,14 +1,12 @@
 package pagination;
 
 
-import data.ReadSaveException;
 import engine.general.Game;
 import javafx.scene.Scene;
 import javafx.scene.layout.BorderPane;
 import javafx.stage.Stage;
 
 import java.io.IOException;
-import java.lang.reflect.InvocationTargetException;
 import java.util.ResourceBundle;
 
 public class SavedGame extends Page {
@@ -28,7 +26,7 @@ public class SavedGame extends Page {
      * @param page
      * @return Page
      */
-    public SavedGame(Stage primaryStage, Pages page, PageController PC, Game game) throws NoSuchMethodException, ReadSaveException, InstantiationException, IllegalAccessException, InvocationTargetException, ClassNotFoundException {
+    public SavedGame(Stage primaryStage, Pages page, PageController PC, Game game) {
         super(primaryStage, page);
         myStage = primaryStage;
         myStage.setFullScreen(true);
@@ -56,8 +54,7 @@ public class SavedGame extends Page {
         return getScene(name);
     }
 
-    Scene buildSpecialScene(int height, int width) throws NoSuchMethodException, ReadSaveException,
-            InstantiationException, IllegalAccessException, InvocationTargetException, ClassNotFoundException {
+    Scene buildSpecialScene(int height, int width) {
         BorderPane myRoot = init_Root(height, width);
         myScene = new Scene(myRoot);
 
@@ -222,6 +222,58 @@ public class BuilderTest extends DukeApplicationTest {
         assertNotEquals(initYPos, builderObjectView.getY());
     }
 
+    @Test
+    public void testIdleUpdateDoesNothing() {
+        placeFirstItemFromBank();
+        builderPane.update();
+        List<Node> children = new ArrayList<>(builderPane.getChildren());
+        double xPos = builderObjectView.getX();
+        double yPos = builderObjectView.getY();
+        // mark the object as overlapped without changing it, which handling its placement would undo
+        builderObjectView.setIsOverlapped(true);
+        builderPane.update();
+        // assert that the unchanged object has not been handled again
+        assertFalse(builderObjectView.hasChanged());
+        assertTrue(builderObjectView.isOverlapped());
+        assertEquals(children, builderPane.getChildren());
+        assertEquals(xPos, builderObjectView.getX());
+        assertEquals(yPos, builderObjectView.getY());
+    }
+
+    @Test
+    public void testSellRevalidatesNeighbors() {
+        createBankWithDifferentItems();
+
+        purchaseFirstItemFromBank();
+        BuilderObjectView raccoonView = (BuilderObjectView) builderPane.lookup("#" + BuilderObjectView.ID + raccoonPath);
+        purchaseFirstItemFromBank();
+        BuilderObjectView mongooseView = (BuilderObjectView) builderPane.lookup("#" + BuilderObjectView.ID + mongoosePath);
+        // move both items to the same position within the bounds of the stage, so they only overlap each other
+        for (BuilderObjectView view : List.of(raccoonView, mongooseView)) {
+            view.setX(builderPane.getDimensions().getTileWidth());
+            view.setY(builderPane.getDimensions().getTileHeight());
+        }
+        builderPane.update();
+        builderPane.update();
+
+        // assert that the items overlap
+        assertTrue(raccoonView.isOverlapped());
+        assertTrue(mongooseView.isOverlapped());
+
+        // sell the newer item
+        for (Node icon : mongooseView.getActionIcons()) {
+            if (BuilderAction.SELL.getId().equals(icon.getId())) {
+                fireMouseClick(icon);
+            }
+        }
+        builderPane.update();
+        assertNull(builderPane.lookup("#" + BuilderObjectView.ID + mongoosePath));
+        builderPane.update();
+
+        // assert that the item that shared its tiles has been checked again and is no longer overlapped
+        assertFalse(raccoonView.isOverlapped());
+    }
+
     @Test
     public void testBuilderStageExitOutput() {
         int initBankModelSize = bankModel.size();
@@ -243,9 +295,9 @@ public class BuilderTest extends DukeApplicationTest {
         assertEquals(item.getImgPath(), gameObject.getImgPath());
 
         assertEquals((int) ((builderPane.getDimensions().getScreenWidth())/(2*builderPane.getDimensions().getTileWidth())),
-                gameObject.getX().intValue());
+                (int) gameObject.getX());
         assertEquals((int) ((builderPane.getDimensions().getScreenHeight())/(2*builderPane.getDimensions().getTileHeight())),
-                gameObject.getY().intValue());
+                (int) gameObject.getY());
     }
 
     @Test
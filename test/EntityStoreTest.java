@@ -0,0 +1,178 @@
+import engine.gameobject.EntityStore;
+import engine.gameobject.GameObject;
+import engine.gameobject.opponent.Enemy;
+import engine.gameobject.platform.HorizontalSlidingPlatform;
+import engine.gameobject.platform.StationaryPlatform;
+import engine.gameobject.player.SimplePlayer;
+import engine.leveldirectory.gamesequence.LevelSimulation;
+import engine.leveldirectory.level.Level;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * This class is used to test GameObjects whose state is held in an EntityStore, which a level switches to once it has
+ * ENTITY_STORE_THRESHOLD objects. Each test compares the objects of such a level with identical objects that hold
+ * their own state.
+ */
+public class EntityStoreTest {
+
+    private static final double MAX_DEPTH = 10;
+    private static final int COLUMNS = 100;
+    private static final double ALPHA = 0.25;
+
+    /**
+     * Test a level with ENTITY_STORE_THRESHOLD objects moves their state into an EntityStore without changing it.
+     */
+    @Test
+    public void testLargeLevelUsesEntityStore() {
+        List<GameObject> unstored = createObjects();
+        Level level = createLargeLevel();
+        EntityStore entityStore = level.getEntityStore();
+        assertNotNull(entityStore);
+        assertEquals(unstored.size(), entityStore.size());
+        List<GameObject> stored = level.getAllGameObjects();
+        for (int index = 0; index < stored.size(); index++) {
+            assertSame(entityStore, stored.get(index).getEntityStore());
+            assertNull(unstored.get(index).getEntityStore());
+            assertSameState(unstored.get(index), stored.get(index));
+        }
+    }
+
+    /**
+     * Test a level with fewer than ENTITY_STORE_THRESHOLD objects keeps their state in the objects.
+     */
+    @Test
+    public void testSmallLevelDoesNotUseEntityStore() {
+        List<GameObject> gameObjects = createObjects();
+        gameObjects.remove(gameObjects.size() - 1);
+        Level level = new Level(gameObjects, null, null);
+        new LevelSimulation(level, createPlayer(), MAX_DEPTH);
+        assertNull(level.getEntityStore());
+        assertNull(gameObjects.get(0).getEntityStore());
+    }
+
+    /**
+     * Test writing the position, speed and size of stored objects, and saving their positions for interpolation, reads
+     * back the same as for objects that hold their own state.
+     */
+    @Test
+    public void testWritesMatchUnstoredObjects() {
+        List<GameObject> unstored = createObjects();
+        List<GameObject> stored = createLargeLevel().getAllGameObjects();
+        for (int index = 0; index < stored.size(); index++) {
+            write(unstored.get(index), index);
+            write(stored.get(index), index);
+        }
+        for (int index = 0; index < stored.size(); index++) {
+            assertSameState(unstored.get(index), stored.get(index));
+        }
+    }
+
+    /**
+     * Test saving the positions of a level's objects at once, which the EntityStore does in a single pass, interpolates
+     * the same as saving the position of each object holding its own state.
+     */
+    @Test
+    public void testSavedPositionsMatchUnstoredObjects() {
+        List<GameObject> unstored = createObjects();
+        Level level = createLargeLevel();
+        List<GameObject> stored = level.getAllGameObjects();
+        for (int index = 0; index < stored.size(); index++) {
+            unstored.get(index).shiftX(1);
+            stored.get(index).shiftX(1);
+        }
+        level.savePreviousPositions();
+        for (GameObject unstoredObject : unstored) {
+            unstoredObject.savePreviousPosition();
+        }
+        for (int index = 0; index < stored.size(); index++) {
+            unstored.get(index).shiftY(-1);
+            stored.get(index).shiftY(-1);
+            assertSameState(unstored.get(index), stored.get(index));
+        }
+    }
+
+    /**
+     * Test an object removed from a level keeps its state, as does the object moved into its slot.
+     */
+    @Test
+    public void testRemoveCopiesStateBack() {
+        List<GameObject> unstored = createObjects();
+        Level level = createLargeLevel();
+        List<GameObject> stored = new ArrayList<>(level.getAllGameObjects());
+        for (int index = 0; index < stored.size(); index++) {
+            write(unstored.get(index), index);
+            write(stored.get(index), index);
+        }
+        GameObject removed = stored.get(1);
+        GameObject last = stored.get(stored.size() - 1);
+        assertTrue(level.removeObject(removed));
+        assertNull(removed.getEntityStore());
+        assertEquals(-1, removed.getSlot());
+        assertSameState(unstored.get(1), removed);
+        assertEquals(1, last.getSlot());
+        assertSameState(unstored.get(stored.size() - 1), last);
+
+        // the object holds its own state again, so writes to it no longer reach the store
+        removed.setX(-1);
+        assertEquals(-1d, removed.getX());
+        assertSameState(unstored.get(stored.size() - 1), last);
+    }
+
+    private Level createLargeLevel() {
+        Level level = new Level(createObjects(), null, null);
+        new LevelSimulation(level, createPlayer(), MAX_DEPTH);
+        return level;
+    }
+
+    private SimplePlayer createPlayer() {
+        return new SimplePlayer("", 1d, 1d, 0d, 0d, 0d, 0d);
+    }
+
+    // a grid of stationary platforms, sliding platforms and enemies, each with a different position and size
+    private List<GameObject> createObjects() {
+        List<GameObject> gameObjects = new ArrayList<>();
+        for (int index = 0; index < LevelSimulation.ENTITY_STORE_THRESHOLD; index++) {
+            double x = index % COLUMNS;
+            double y = index / COLUMNS;
+            double size = 1 + index % 3;
+            if (index % 3 == 0) {
+                gameObjects.add(new Enemy("", size, size, x, y, Enemy.DEFAULT_X_SPEED, 0d));
+            }
+            else if (index % 3 == 1) {
+                gameObjects.add(new HorizontalSlidingPlatform("", size, 1d, x, y, 1d, x - 1, x + 1));
+            }
+            else {
+                gameObjects.add(new StationaryPlatform("", size, 1d, x, y));
+            }
+        }
+        return gameObjects;
+    }
+
+    private void write(GameObject gameObject, int index) {
+        gameObject.setX(index * 0.5);
+        gameObject.setY(-index);
+        gameObject.savePreviousPosition();
+        gameObject.shiftX(2);
+        gameObject.shiftY(index % 7);
+        gameObject.setXSpeed(index % 5 - 2);
+        gameObject.setYSpeed(-index % 11);
+        gameObject.setWidth(index % 4 + 0.5);
+        gameObject.setHeight(index % 6 + 0.25);
+    }
+
+    private void assertSameState(GameObject expected, GameObject actual) {
+        assertEquals(expected.getX(), actual.getX());
+        assertEquals(expected.getY(), actual.getY());
+        assertEquals(expected.getXSpeed(), actual.getXSpeed());
+        assertEquals(expected.getYSpeed(), actual.getYSpeed());
+        assertEquals(expected.getWidth(), actual.getWidth());
+        assertEquals(expected.getHeight(), actual.getHeight());
+        assertEquals(expected.getInterpolatedX(ALPHA), actual.getInterpolatedX(ALPHA));
+        assertEquals(expected.getInterpolatedY(ALPHA), actual.getInterpolatedY(ALPHA));
+    }
+}
@@ -74,4 +74,18 @@ public class GameObjectTest extends DukeApplicationTest {
         assertEquals(initEnemyXPos - Enemy.DEFAULT_X_SPEED, myEnemy.getX());
     }
 
+    /**
+     * Test enemy moves in proportion to the length of a simulation tick.
+     */
+    @Test
+    public void testEnemyMovementScalesWithTick() {
+        double initEnemyXPos = 10;
+        double frames = 2.5;
+        SimplePlayer myPlayer = new SimplePlayer("", 1d,1d, 6d, 0d, 0d, 0d);
+        Enemy myEnemy = new Enemy("", 1d, 1d, initEnemyXPos, 10d, 1d, 0d);
+
+        myEnemy.updateLogic(myPlayer, frames);
+        assertEquals(initEnemyXPos - Enemy.DEFAULT_X_SPEED * frames, myEnemy.getX());
+    }
+
 }
@@ -1,17 +1,15 @@
 
-import data.ReadSaveException;
 import data.user.InvalidLoginException;
 import data.user.User;
 import engine.general.Game;
 import engine.leveldirectory.gamesequence.GameSeqLevelController;
+import engine.leveldirectory.level.LevelLoadException;
 import javafx.scene.Scene;
 import javafx.scene.layout.BorderPane;
 import javafx.stage.Stage;
 import org.junit.jupiter.api.Test;
 import pagination.PageController;
 
-import java.lang.reflect.InvocationTargetException;
-
 import static org.junit.jupiter.api.Assertions.*;
 
 /**
@@ -34,7 +32,7 @@ public class HUDTest extends DukeApplicationTest {
     }
 
     @Test
-    public void testHUDLevelUpdate() throws NoSuchMethodException, ReadSaveException, InstantiationException, IllegalAccessException, InvocationTargetException, ClassNotFoundException, InvalidLoginException {
+    public void testHUDLevelUpdate() throws InvalidLoginException, LevelLoadException {
         int initLevel = 0;
         // create a game
         Game game = new Game(initLevel, scene, pane, new PageController(
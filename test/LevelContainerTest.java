@@ -0,0 +1,96 @@
+import data.levels.LevelData;
+import engine.leveldirectory.level.Level;
+import engine.leveldirectory.level.LevelContainer;
+import engine.leveldirectory.level.LevelLoadException;
+import javafx.stage.Stage;
+import org.json.simple.JSONObject;
+import org.json.simple.parser.JSONParser;
+import org.json.simple.parser.ParseException;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * This class is used to test loading levels. Loading a level creates its bank's frontend, so it runs with JavaFX.
+ */
+public class LevelContainerTest extends DukeApplicationTest {
+
+    private static final String LEVEL_LOC = "resources/data/levels.json";
+    private static final String BANK_LOC = "resources/data/banks.json";
+    private static final String DIMENSIONS_LOC = "resources/data/dimensions.json";
+    private static final String FAILING_LEVEL = "2";
+
+    @Override
+    public void start(Stage stage) {
+    }
+
+    /**
+     * Test a level that cannot be loaded in parallel is reported with its own number and does not stop the others.
+     */
+    @Test
+    public void testParallelLoadReportsFailingLevel() throws IOException, ParseException {
+        LevelContainer levelContainer = createLevelContainer();
+        List<LevelLoadException> failures = levelContainer.loadLevelsInParallel();
+        assertEquals(1, failures.size());
+        assertEquals(Integer.parseInt(FAILING_LEVEL), failures.get(0).getLevel());
+
+        List<Level> levels = levelContainer.getLevels();
+        assertEquals(levelContainer.getTotalNumLevels(), levels.size());
+        for (int level = 0; level < levels.size(); level++) {
+            assertNotNull(levels.get(level));
+            assertEquals(level == failures.get(0).getLevel(), levels.get(level).getBankController() == null);
+        }
+        // the failing level is left unloaded, so loading it again reports it again
+        List<LevelLoadException> retriedFailures = levelContainer.loadLevelsInParallel();
+        assertEquals(1, retriedFailures.size());
+        assertEquals(failures.get(0).getLevel(), retriedFailures.get(0).getLevel());
+    }
+
+    /**
+     * Test a level that cannot be loaded on its own is reported rather than replaced by a level without a bank.
+     */
+    @Test
+    public void testLazyLoadReportsFailingLevel() throws IOException, ParseException, LevelLoadException {
+        LevelContainer levelContainer = createLevelContainer();
+        LevelLoadException failure = assertThrows(LevelLoadException.class,
+                () -> levelContainer.getLevel(Integer.parseInt(FAILING_LEVEL)));
+        assertEquals(Integer.parseInt(FAILING_LEVEL), failure.getLevel());
+        assertNotNull(levelContainer.getLevel(0).getBankController());
+    }
+
+    /**
+     * Test moving to a level that cannot be loaded leaves the current level as it was.
+     */
+    @Test
+    public void testMoveToFailingLevel() throws IOException, ParseException, LevelLoadException {
+        LevelContainer levelContainer = createLevelContainer();
+        int failingLevel = Integer.parseInt(FAILING_LEVEL);
+        levelContainer.setCurrentLevel(failingLevel - 1);
+        Level level = levelContainer.getCurrentLevel();
+        assertThrows(LevelLoadException.class, levelContainer::incrementLevel);
+        assertThrows(LevelLoadException.class, () -> levelContainer.setCurrentLevel(failingLevel));
+        assertEquals(failingLevel - 1, levelContainer.getLevelNum());
+        assertSame(level, levelContainer.getCurrentLevel());
+    }
+
+    private LevelContainer createLevelContainer() throws IOException, ParseException {
+        JSONObject banks;
+        try (Reader reader = Files.newBufferedReader(Paths.get(BANK_LOC))) {
+            banks = (JSONObject) new JSONParser().parse(reader);
+        }
+        banks.remove(FAILING_LEVEL);
+        File bankFile = File.createTempFile("banks", ".json");
+        bankFile.deleteOnExit();
+        Files.writeString(bankFile.toPath(), banks.toJSONString());
+        LevelContainer levelContainer = new LevelContainer(null);
+        levelContainer.loadLevels(new LevelData(LEVEL_LOC, bankFile.getPath(), DIMENSIONS_LOC));
+        return levelContainer;
+    }
+}
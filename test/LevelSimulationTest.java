@@ -0,0 +1,90 @@
+import engine.gameobject.GameObject;
+import engine.gameobject.platform.CheckPoint;
+import engine.gameobject.platform.StationaryPlatform;
+import engine.gameobject.player.SimplePlayer;
+import engine.leveldirectory.gamesequence.LevelSimulation;
+import engine.leveldirectory.level.Level;
+import javafx.scene.input.KeyCode;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * This class is used to test playing levels without a frontend.
+ */
+public class LevelSimulationTest {
+
+    private static final double MAX_DEPTH = 10;
+    private static final int MAX_TICKS = 1000;
+
+    /**
+     * Test player rests on a platform beneath it.
+     */
+    @Test
+    public void testPlayerStandsOnPlatform() {
+        LevelSimulation simulation = new LevelSimulation(createLevel(platformRow(3)), createPlayer(), MAX_DEPTH);
+        int ticks = simulation.run(Collections.emptyIterator(), 100);
+        assertEquals(100, ticks);
+        assertEquals(0d, simulation.getPlayer().getY());
+        assertEquals(LevelSimulation.DEFAULT_LIVES, simulation.getLives());
+        assertFalse(simulation.isOver());
+    }
+
+    /**
+     * Test player loses a life and respawns after falling out of the level.
+     */
+    @Test
+    public void testPlayerFallsOutOfLevel() {
+        LevelSimulation simulation = new LevelSimulation(createLevel(new ArrayList<>()), createPlayer(), MAX_DEPTH, 1);
+        int[] livesLost = {0};
+        simulation.setOnLifeLost(() -> livesLost[0]++);
+        simulation.run(Collections.emptyIterator(), MAX_TICKS);
+        assertTrue(simulation.hasLost());
+        assertEquals(1, livesLost[0]);
+        assertEquals(0d, simulation.getPlayer().getY());
+    }
+
+    /**
+     * Test scripted input walks the player to a checkpoint.
+     */
+    @Test
+    public void testScriptedInputReachesCheckPoint() {
+        List<GameObject> gameObjects = platformRow(3);
+        // only the first object the player touches, in level order, is handled, so the checkpoint must come first
+        gameObjects.add(0, place(new CheckPoint(LevelSimulation.CHECKPOINT_IMG, 1d, 1d, 0d, 0d), 3, 0));
+        LevelSimulation simulation = new LevelSimulation(createLevel(gameObjects), createPlayer(), MAX_DEPTH);
+        List<Collection<KeyCode>> script = Arrays.asList(List.of(KeyCode.D), List.of(KeyCode.D));
+        int ticks = simulation.run(script.iterator(), MAX_TICKS);
+        assertTrue(simulation.hasWon());
+        assertEquals(script.size(), ticks);
+        assertEquals(LevelSimulation.DEFAULT_LIVES, simulation.getLives());
+    }
+
+    private Level createLevel(List<GameObject> gameObjects) {
+        return new Level(gameObjects, null, null);
+    }
+
+    private SimplePlayer createPlayer() {
+        return new SimplePlayer("", 1d, 1d, 0d, 0d, 0d, 0d);
+    }
+
+    private List<GameObject> platformRow(int maxX) {
+        List<GameObject> platforms = new ArrayList<>();
+        for (int x = 0; x <= maxX; x++) {
+            platforms.add(place(new StationaryPlatform("", 1d, 1d, 0d, 0d), x, 1));
+        }
+        return platforms;
+    }
+
+    private GameObject place(GameObject gameObject, double x, double y) {
+        gameObject.setX(x);
+        gameObject.setY(y);
+        return gameObject;
+    }
+}
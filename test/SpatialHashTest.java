@@ -0,0 +1,151 @@
+import engine.gameobject.GameObject;
+import engine.gameobject.platform.StationaryPlatform;
+import engine.leveldirectory.level.SpatialHash;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * This class is used to test finding the objects of a level that are near a position.
+ */
+public class SpatialHashTest {
+
+    private static final int MAX_TILE = 9;
+
+    /**
+     * Test objects in the tiles around a position are found, even across cell boundaries, and farther ones are not.
+     */
+    @Test
+    public void testNearbyObjectsAcrossCells() {
+        SpatialHash spatialHash = new SpatialHash(0, MAX_TILE, 0, MAX_TILE);
+        GameObject sameTile = add(spatialHash, 4, 4);
+        GameObject diagonalTile = add(spatialHash, 5.9, 5.9);
+        GameObject previousTile = add(spatialHash, 3, 3.2);
+        GameObject twoTilesAway = add(spatialHash, 6, 4);
+        GameObject farAway = add(spatialHash, 8, 8);
+        List<GameObject> nearbyObjects = spatialHash.getNearbyObjects(4.5, 4.5);
+        assertSameObjects(List.of(sameTile, diagonalTile, previousTile), nearbyObjects);
+        assertSameObjects(List.of(twoTilesAway), spatialHash.getNearbyObjects(7, 4));
+        assertSameObjects(List.of(farAway), spatialHash.getNearbyObjects(MAX_TILE, MAX_TILE));
+    }
+
+    /**
+     * Test objects positioned outside of the level are found by every query.
+     */
+    @Test
+    public void testObjectsOutsideLevelAreAlwaysNearby() {
+        SpatialHash spatialHash = new SpatialHash(0, MAX_TILE, 0, MAX_TILE);
+        GameObject fallen = add(spatialHash, 2, MAX_TILE + 5);
+        GameObject inside = add(spatialHash, 0, 0);
+        GameObject beforeStart = add(spatialHash, -3, 0);
+        assertSameObjects(List.of(fallen, inside, beforeStart), spatialHash.getNearbyObjects(0, 0));
+        assertSameObjects(List.of(fallen, beforeStart), spatialHash.getNearbyObjects(MAX_TILE, MAX_TILE));
+    }
+
+    /**
+     * Test an object is only found at its new position once it has been updated after moving.
+     */
+    @Test
+    public void testUpdateAfterMove() {
+        SpatialHash spatialHash = new SpatialHash(0, MAX_TILE, 0, MAX_TILE);
+        GameObject moving = add(spatialHash, 1, 1);
+        place(moving, 7, 7);
+        assertTrue(spatialHash.getNearbyObjects(7, 7).isEmpty());
+        spatialHash.update(moving);
+        assertSameObjects(List.of(moving), spatialHash.getNearbyObjects(7, 7));
+        assertTrue(spatialHash.getNearbyObjects(1, 1).isEmpty());
+
+        place(moving, MAX_TILE + 1, 7);
+        spatialHash.update(moving);
+        assertSameObjects(List.of(moving), spatialHash.getNearbyObjects(1, 1));
+    }
+
+    /**
+     * Test removing an object leaves an identical-looking object in the same tile.
+     */
+    @Test
+    public void testRemove() {
+        SpatialHash spatialHash = new SpatialHash(0, MAX_TILE, 0, MAX_TILE);
+        GameObject removed = add(spatialHash, 2, 2);
+        GameObject kept = add(spatialHash, 2, 2);
+        assertEquals(removed, kept);
+        spatialHash.remove(removed);
+        assertSameObjects(List.of(kept), spatialHash.getNearbyObjects(2, 2));
+        spatialHash.remove(kept);
+        assertTrue(spatialHash.getNearbyObjects(2, 2).isEmpty());
+    }
+
+    /**
+     * Test nearby objects are returned in the order they were added, whichever cells they are in and however they
+     * have moved since.
+     */
+    @Test
+    public void testNearbyObjectsInAdditionOrder() {
+        SpatialHash spatialHash = new SpatialHash(0, MAX_TILE, 0, MAX_TILE);
+        GameObject first = add(spatialHash, 5, 5);
+        GameObject second = add(spatialHash, 3, 3);
+        GameObject third = add(spatialHash, -1, -1);
+        GameObject fourth = add(spatialHash, 4, 4);
+        GameObject fifth = add(spatialHash, 5, 3);
+        assertSameObjects(List.of(first, second, third, fourth, fifth), spatialHash.getNearbyObjects(4, 4));
+
+        place(first, 3, 5);
+        spatialHash.update(first);
+        spatialHash.remove(fourth);
+        spatialHash.add(fourth);
+        assertSameObjects(List.of(first, second, third, fifth, fourth), spatialHash.getNearbyObjects(4, 4));
+    }
+
+    /**
+     * Test the objects positioned in a tile that overlaps a region are found, including those outside of the level.
+     */
+    @Test
+    public void testObjectsInRegion() {
+        SpatialHash spatialHash = new SpatialHash(0, MAX_TILE, 0, MAX_TILE);
+        GameObject leftEdge = add(spatialHash, 2.9, 1);
+        GameObject rightEdge = add(spatialHash, 5.9, 3.99);
+        GameObject pastRightEdge = add(spatialHash, 6, 2);
+        GameObject belowBottomEdge = add(spatialHash, 4, 4);
+        GameObject beforeStart = add(spatialHash, -3, 2);
+        assertSameObjects(List.of(leftEdge, rightEdge), spatialHash.getObjectsInRegion(2.5, 5.2, 1, 3));
+        assertSameObjects(List.of(beforeStart), spatialHash.getObjectsInRegion(-4, -2, 0, MAX_TILE));
+        assertSameObjects(List.of(leftEdge, rightEdge, pastRightEdge, belowBottomEdge, beforeStart),
+                spatialHash.getObjectsInRegion(-MAX_TILE, MAX_TILE, -MAX_TILE, MAX_TILE));
+    }
+
+    /**
+     * Test the objects in a region are returned in the order they were added rather than the order of their cells, so
+     * that the objects on screen are drawn in the same order as the whole level.
+     */
+    @Test
+    public void testObjectsInRegionInAdditionOrder() {
+        SpatialHash spatialHash = new SpatialHash(0, MAX_TILE, 0, MAX_TILE);
+        GameObject first = add(spatialHash, 5, 5);
+        GameObject second = add(spatialHash, 1, 1);
+        GameObject third = add(spatialHash, -1, 2);
+        GameObject fourth = add(spatialHash, 3, 2);
+        assertSameObjects(List.of(first, second, third, fourth), spatialHash.getObjectsInRegion(-1, 6, 0, 6));
+    }
+
+    private GameObject add(SpatialHash spatialHash, double x, double y) {
+        GameObject gameObject = place(new StationaryPlatform("", 1d, 1d, 0d, 0d), x, y);
+        spatialHash.add(gameObject);
+        return gameObject;
+    }
+
+    private GameObject place(GameObject gameObject, double x, double y) {
+        gameObject.setX(x);
+        gameObject.setY(y);
+        return gameObject;
+    }
+
+    // GameObject.equals() compares appearance, so the objects found are compared by reference
+    private void assertSameObjects(List<GameObject> expected, List<GameObject> actual) {
+        assertEquals(expected.size(), actual.size());
+        for (int index = 0; index < expected.size(); index++) {
+            assertSame(expected.get(index), actual.get(index));
+        }
+    }
+}
@@ -0,0 +1,111 @@
+import builder.stage.TilePaneDimensions;
+import builder.stage.placementHandler.TileOccupancyGrid;
+import javafx.scene.image.ImageView;
+import javafx.stage.Stage;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * This class is used to test recording which tiles of the builder stage its objects cover. The size of a tile depends
+ * on the screen, so it runs with JavaFX.
+ */
+public class TileOccupancyGridTest extends DukeApplicationTest {
+
+    private static final int MAX_TILE = 10;
+
+    private TilePaneDimensions dimensions;
+    private TileOccupancyGrid occupancyGrid;
+
+    @Override
+    public void start(Stage stage) {
+        dimensions = new TilePaneDimensions(0, MAX_TILE, 0, MAX_TILE);
+        occupancyGrid = new TileOccupancyGrid(dimensions);
+    }
+
+    /**
+     * Test an object whose far edge lies on the edge of a tile does not cover the tile beyond it.
+     */
+    @Test
+    public void testLastTileIsEdgeExclusive() {
+        ImageView object = add(2, 2, 2, 2);
+        ImageView beyond = add(4, 4, 4, 4);
+        assertTrue(occupancyGrid.isOccupied(3, 3));
+        assertFalse(occupancyGrid.isOccupied(4, 2));
+        assertFalse(occupancyGrid.isOccupied(2, 4));
+        assertNeighbors(object);
+        ImageView straddling = add(3.5, 3.5, 1, 1);
+        assertNeighbors(object, straddling);
+        assertNeighbors(beyond, straddling);
+    }
+
+    /**
+     * Test an object facing left, which has a negative width, covers the tiles between its far edge and its position.
+     */
+    @Test
+    public void testLeftFacingObjectCoversTilesBehindIt() {
+        ImageView object = add(4, 4, -2, 1);
+        assertFalse(occupancyGrid.isOccupied(1, 4));
+        assertTrue(occupancyGrid.isOccupied(2, 4));
+        assertTrue(occupancyGrid.isOccupied(3, 4));
+        assertFalse(occupancyGrid.isOccupied(4, 4));
+        ImageView behind = add(2, 4, 1, 1);
+        assertNeighbors(object, behind);
+    }
+
+    /**
+     * Test objects outside of the pane are recorded in the tiles at its edge, while tiles outside of the pane are never
+     * occupied.
+     */
+    @Test
+    public void testObjectsOutsidePaneAreOnEdgeTiles() {
+        ImageView beforeStart = add(-5, -5, 1, 1);
+        ImageView pastEnd = add(MAX_TILE + 5, 4, 1, 1);
+        assertTrue(occupancyGrid.isOccupied(0, 0));
+        assertTrue(occupancyGrid.isOccupied(MAX_TILE - 1, 4));
+        assertFalse(occupancyGrid.isOccupied(-5, -5));
+        assertFalse(occupancyGrid.isOccupied(MAX_TILE + 5, 4));
+        assertFalse(occupancyGrid.isOccupied(MAX_TILE, 4));
+        ImageView corner = add(0, 0, 1, 1);
+        assertNeighbors(beforeStart, corner);
+        assertNeighbors(pastEnd);
+    }
+
+    /**
+     * Test an object is only recorded in its new tiles once it has been updated after moving, and in none once removed.
+     */
+    @Test
+    public void testUpdateAndRemove() {
+        ImageView object = add(2, 2, 1, 1);
+        ImageView other = add(8, 8, 1, 1);
+        object.setX(8 * dimensions.getTileWidth());
+        object.setY(8 * dimensions.getTileHeight());
+        assertNeighbors(other);
+        occupancyGrid.update(object);
+        assertFalse(occupancyGrid.isOccupied(2, 2));
+        assertNeighbors(other, object);
+        occupancyGrid.remove(object);
+        assertNeighbors(other);
+        assertTrue(occupancyGrid.isOccupied(8, 8));
+        occupancyGrid.remove(other);
+        assertFalse(occupancyGrid.isOccupied(8, 8));
+    }
+
+    private ImageView add(double x, double y, double width, double height) {
+        ImageView object = new ImageView();
+        object.setX(x * dimensions.getTileWidth());
+        object.setY(y * dimensions.getTileHeight());
+        object.setFitWidth(width * dimensions.getTileWidth());
+        object.setFitHeight(height * dimensions.getTileHeight());
+        occupancyGrid.update(object);
+        return object;
+    }
+
+    // an object that shares several tiles with another is one of its neighbors more than once
+    private void assertNeighbors(ImageView object, ImageView... neighbors) {
+        assertEquals(Set.of(neighbors), new HashSet<>(occupancyGrid.getNeighbors(object)));
+    }
+}
@@ -0,0 +1,107 @@
+package data;
+
+import data.levels.BinaryLevelFormat;
+import data.levels.LevelData;
+import engine.gameobject.GameObject;
+import engine.gameobject.opponent.Enemy;
+import engine.gameobject.platform.StationaryPlatform;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class BinaryLevelFormatTest {
+
+    private static final String BANK_LOC = "resources/data/banks.json";
+    private static final String DIMENSIONS_LOC = "resources/data/dimensions.json";
+
+    @Test
+    public void testRoundTrip() throws IOException {
+        List<GameObject> level = new ArrayList<>();
+        level.add(new StationaryPlatform("images/objects/grasstile.png", 1d, 1d, 2d, 3d));
+        level.add(new StationaryPlatform("images/objects/grasstile.png", 1d, 1d, 4d, 3d));
+        level.add(new Enemy("images/avatars/mongoose.png", 1d, 1d, 4d, 5d, Enemy.DEFAULT_X_SPEED, 0d));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        BinaryLevelFormat.write(Map.of("0", level), out);
+
+        BinaryLevelFormat format = BinaryLevelFormat.read(new ByteArrayInputStream(out.toByteArray()));
+        assertTrue(format.containsLevel("0"));
+        List<GameObject> read = format.createLevel("0");
+        assertEquals(level.size(), read.size());
+        for (int index = 0; index < level.size(); index++) {
+            assertEquals(level.get(index).getClass(), read.get(index).getClass());
+            assertEquals(level.get(index).getParameters(), read.get(index).getParameters());
+        }
+        assertNotSame(read.get(0), format.createLevel("0").get(0));
+    }
+
+    @Test
+    public void testMapIndexedLevels() throws IOException {
+        Map<String, List<GameObject>> levels = new LinkedHashMap<>();
+        for (int level = 0; level < 3; level++) {
+            List<GameObject> gameObjects = new ArrayList<>();
+            for (int index = 0; index <= level; index++) {
+                gameObjects.add(new Enemy("images/avatars/mongoose.png", 1d, 1d, (double) index, (double) level, 0d, 0d));
+            }
+            gameObjects.add(new StationaryPlatform("images/objects/grasstile.png", 1d, 1d, (double) level, 7d));
+            levels.put(Integer.toString(level), gameObjects);
+        }
+        File binary = File.createTempFile("levels", BinaryLevelFormat.FILE_EXTENSION);
+        binary.deleteOnExit();
+        try (OutputStream out = new FileOutputStream(binary)) {
+            BinaryLevelFormat.write(levels, out);
+        }
+
+        BinaryLevelFormat format = BinaryLevelFormat.map(binary.toPath());
+        assertEquals(levels.keySet(), format.getLevelNames());
+        List<GameObject> read = format.createLevel("2");
+        assertEquals(4, read.size());
+        assertEquals(levels.get("2").get(1).getParameters(), read.get(1).getParameters());
+        assertEquals(StationaryPlatform.class, read.get(3).getClass());
+        assertEquals(levels.get("2").get(3).getParameters(), read.get(3).getParameters());
+    }
+
+    @Test
+    public void testRejectsOtherFiles() {
+        byte[] json = "{\"0\":{}}".getBytes();
+        assertThrows(IOException.class, () -> BinaryLevelFormat.read(new ByteArrayInputStream(json)));
+    }
+
+    @Test
+    public void testRejectsOtherVersions() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        BinaryLevelFormat.write(Map.of("0", List.of()), out);
+        byte[] bytes = out.toByteArray();
+        for (int version : new int[] {BinaryLevelFormat.VERSION - 1, BinaryLevelFormat.VERSION + 1}) {
+            bytes[4] = (byte) (version >> 8);
+            bytes[5] = (byte) version;
+            assertThrows(IOException.class, () -> BinaryLevelFormat.read(new ByteArrayInputStream(bytes)));
+        }
+    }
+
+    @Test
+    public void testExportMatchesJson() throws IOException {
+        File binary = File.createTempFile("levels", BinaryLevelFormat.FILE_EXTENSION);
+        binary.deleteOnExit();
+        LevelData json = new LevelData();
+        json.exportBinary(binary.getPath());
+        LevelData converted = new LevelData(binary.getPath(), BANK_LOC, DIMENSIONS_LOC);
+        assertEquals(json.getNumLevels(), converted.getNumLevels());
+        List<GameObject> expected = json.getSavedLevel(0);
+        List<GameObject> actual = converted.getSavedLevel(0);
+        assertEquals(expected.size(), actual.size());
+        for (int index = 0; index < expected.size(); index++) {
+            assertEquals(expected.get(index).getParameters(), actual.get(index).getParameters());
+        }
+    }
+}
@@ -0,0 +1,122 @@
+package data;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * This class is used to test writing exceptions to the error log. Each test logs to a file of its own.
+ */
+public class ErrorLoggerTest {
+
+    private static final int RECORDS = 100;
+    private static final int MAX_ATTEMPTS = 100;
+    private static final Pattern DROPPED = Pattern.compile("(\\d+) errors were dropped");
+
+    private Path file;
+
+    @BeforeEach
+    public void setUp() throws IOException {
+        // report anything logged before this test to the previous log
+        ErrorLogger.flush();
+        file = Files.createTempDirectory("errors").resolve("ErrorLog.txt");
+        ErrorLogger.setFile(file);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        ErrorLogger.flush();
+        ErrorLogger.setFile(ErrorLogger.DEFAULT_FILE);
+    }
+
+    /**
+     * Test flushing waits until every exception logged before it has been written, in order.
+     */
+    @Test
+    public void testFlushWritesEarlierRecords() throws IOException {
+        for (int record = 0; record < RECORDS; record++) {
+            ErrorLogger.log(createException("record " + record));
+        }
+        ErrorLogger.flush();
+        String log = Files.readString(file);
+        int position = 0;
+        for (int record = 0; record < RECORDS; record++) {
+            position = log.indexOf("record " + record + "\n", position);
+            assertTrue(position >= 0);
+        }
+    }
+
+    /**
+     * Test exceptions dropped because the queue was full are counted and reported in the log.
+     */
+    @Test
+    public void testDroppedRecordsAreReported() throws IOException {
+        long droppedBefore = ErrorLogger.getDroppedCount();
+        Exception exception = createException("flood");
+        for (int attempt = 0; attempt < MAX_ATTEMPTS && ErrorLogger.getDroppedCount() == droppedBefore; attempt++) {
+            for (int record = 0; record < 2 * ErrorLogger.CAPACITY; record++) {
+                ErrorLogger.log(exception);
+            }
+        }
+        ErrorLogger.flush();
+        long dropped = ErrorLogger.getDroppedCount() - droppedBefore;
+        assertTrue(dropped > 0);
+        long reported = 0;
+        Matcher matcher = DROPPED.matcher(Files.readString(file));
+        while (matcher.find()) {
+            reported += Long.parseLong(matcher.group(1));
+        }
+        assertEquals(dropped, reported);
+    }
+
+    /**
+     * Test a full log is moved to ErrorLog.txt.1, older logs are shifted up and the oldest beyond MAX_OLD_FILES is
+     * deleted.
+     */
+    @Test
+    public void testRotation() throws IOException {
+        byte[] fullLog = new byte[(int) ErrorLogger.MAX_FILE_SIZE - 1];
+        Files.write(file, fullLog);
+        for (int index = 1; index <= ErrorLogger.MAX_OLD_FILES; index++) {
+            Files.writeString(getOldFile(index), "old log " + index);
+        }
+        ErrorLogger.log(createException("rotated"));
+        ErrorLogger.flush();
+
+        assertFalse(Files.exists(file));
+        String rotated = new String(Files.readAllBytes(getOldFile(1)), StandardCharsets.UTF_8);
+        assertTrue(rotated.length() > fullLog.length);
+        assertTrue(rotated.endsWith("rotated\n"));
+        for (int index = 2; index <= ErrorLogger.MAX_OLD_FILES; index++) {
+            assertEquals("old log " + (index - 1), Files.readString(getOldFile(index)));
+        }
+        assertFalse(Files.exists(getOldFile(ErrorLogger.MAX_OLD_FILES + 1)));
+
+        ErrorLogger.log(createException("new log"));
+        ErrorLogger.flush();
+        List<String> lines = Files.readAllLines(file);
+        assertEquals(1, lines.size());
+        assertTrue(lines.get(0).endsWith("new log"));
+    }
+
+    private Path getOldFile(int index) {
+        return file.resolveSibling(file.getFileName() + "." + index);
+    }
+
+    // without a stack trace, each record is a single line
+    private Exception createException(String message) {
+        Exception exception = new Exception(message);
+        exception.setStackTrace(new StackTraceElement[0]);
+        return exception;
+    }
+}
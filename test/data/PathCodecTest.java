@@ -0,0 +1,37 @@
+package data;
+
+import data.user.PathCodec;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class PathCodecTest {
+
+    @Test
+    public void testRoundTrip() {
+        double[] path = new double[] {0.0, 0.0, 0.1, 0.2, 3.5, -1.25, 250.0, 16.0, 249.99, 16.01};
+        assertArrayEquals(path, PathCodec.decode(PathCodec.encode(path)));
+        assertArrayEquals(new double[0], PathCodec.decode(PathCodec.encode(new double[0])));
+    }
+
+    @Test
+    public void testQuantizes() {
+        double[] decoded = PathCodec.decode(PathCodec.encode(new double[] {1.004, 2.006}));
+        assertArrayEquals(new double[] {1.0, 2.01}, decoded);
+    }
+
+    @Test
+    public void testDownsample() {
+        double[] path = new double[200];
+        for (int index = 0; index < path.length; index++) {
+            path[index] = index;
+        }
+        double[] sampled = PathCodec.downsample(path, 10);
+        assertEquals(20, sampled.length);
+        assertEquals(0.0, sampled[0]);
+        assertEquals(1.0, sampled[1]);
+        assertEquals(198.0, sampled[18]);
+        assertEquals(199.0, sampled[19]);
+        assertSame(path, PathCodec.downsample(path, 100));
+    }
+}
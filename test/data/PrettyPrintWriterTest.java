@@ -0,0 +1,35 @@
+package data;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringWriter;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class PrettyPrintWriterTest {
+
+    private static final String JSON = "{\"0\":{\"a\":[[\"x\",\"1.0\"],[\"y\",\"2\"]]},\"b\":1}";
+    private static final String PRETTY = "{\n  \"0\":{\n    \"a\":[\n      [\"x\",\"1.0\"],\n      [\"y\",\"2\"]\n    ]\n  },\n  \"b\":1\n}";
+
+    @Test
+    public void testLayout() throws IOException {
+        StringWriter writer = new StringWriter();
+        try (PrettyPrintWriter prettyWriter = new PrettyPrintWriter(writer)) {
+            prettyWriter.write(JSON);
+        }
+        assertEquals(PRETTY, writer.toString());
+    }
+
+    @Test
+    public void testSplitWrites() throws IOException {
+        StringWriter writer = new StringWriter();
+        try (PrettyPrintWriter prettyWriter = new PrettyPrintWriter(writer)) {
+            for (char letter : JSON.toCharArray()) {
+                prettyWriter.write(letter);
+            }
+        }
+        assertEquals(PRETTY, writer.toString());
+        assertEquals(PRETTY, new PrettyPrint(JSON).getString());
+    }
+}
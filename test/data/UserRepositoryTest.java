@@ -0,0 +1,80 @@
+package data;
+
+import data.user.UserRepository;
+import org.json.simple.JSONObject;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class UserRepositoryTest {
+
+    @Test
+    public void testCopies() throws IOException {
+        UserRepository repository = new UserRepository(createFile().getPath());
+        JSONObject user = user("first", 10);
+        repository.save(user);
+        user.put("score", 20);
+
+        JSONObject stored = repository.get("first");
+        assertEquals(10L, stored.get("score"));
+        stored.put("score", 30L);
+        assertEquals(10L, repository.get("first").get("score"));
+        assertNull(repository.get("second"));
+    }
+
+    @Test
+    public void testWriteBehind() throws IOException {
+        File file = createFile();
+        UserRepository repository = new UserRepository(file.getPath());
+        repository.save(user("first", 10));
+        repository.save(user("first", 20));
+        repository.save(user("second", 5));
+        assertEquals(2, repository.size());
+        assertEquals("{}", Files.readString(file.toPath()));
+
+        repository.delete("second");
+        repository.flush();
+        UserRepository reread = new UserRepository(file.getPath());
+        assertEquals(20L, reread.get("first").get("score"));
+        assertFalse(reread.contains("second"));
+    }
+
+    @Test
+    public void testReplayJournal() throws IOException {
+        File file = createFile();
+        Files.writeString(file.toPath(), "{\"first\":{\"id\":\"first\",\"score\":10,\"levels\":{\"1\":0}}}");
+        Files.writeString(Paths.get(file.getPath() + ".journal"),
+                "{\"op\":\"set\",\"id\":\"first\",\"path\":[\"score\"],\"value\":15}\n" +
+                "{\"op\":\"set\",\"id\":\"first\",\"path\":[\"levels\",\"2\"],\"value\":7}\n" +
+                "{\"op\":\"put\",\"user\":{\"id\":\"second\",\"score\":1}}\n" +
+                "{\"op\":\"delete\",\"id\":\"second\"}\n");
+        UserRepository repository = new UserRepository(file.getPath());
+        assertEquals(15L, repository.get("first").get("score"));
+        assertEquals(7L, ((JSONObject) repository.get("first").get("levels")).get("2"));
+        assertFalse(repository.contains("second"));
+
+        repository.updateScore("first", 25);
+        repository.flush();
+        assertFalse(Files.exists(Paths.get(file.getPath() + ".journal")));
+        assertEquals(25L, new UserRepository(file.getPath()).get("first").get("score"));
+    }
+
+    private File createFile() throws IOException {
+        File file = File.createTempFile("users", ".json");
+        file.deleteOnExit();
+        Files.writeString(file.toPath(), "{}");
+        return file;
+    }
+
+    private JSONObject user(String id, int score) {
+        JSONObject user = new JSONObject();
+        user.put("id", id);
+        user.put("score", score);
+        return user;
+    }
+}
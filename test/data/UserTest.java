@@ -160,7 +160,10 @@ public class UserTest extends TestCase {
     }
 
     private List<Double> listHelper(Object list, String place) {
-        if (list instanceof org.json.simple.JSONArray) {
+        if (list instanceof String) {
+            return PathCodec.asList(PathCodec.decode((String) list));
+        }
+        else if (list instanceof org.json.simple.JSONArray) {
             return (JSONArray) list;
         }
         else if (list instanceof java.util.ArrayList) {